@@ -0,0 +1,19 @@
+-- SQL script to track the content hash of each synced Google Sheets row
+
+-- One row per sheet row that produced a pick, keyed by the pick's natural key so that
+-- inserting or re-sorting sheet rows does not invalidate the hashes. pick_id has no foreign
+-- key: stock_picks is partitioned and its primary key is (id, pick_day).
+CREATE TABLE IF NOT EXISTS google_sheets_rows (
+    id BIGSERIAL PRIMARY KEY,
+    spreadsheet_id VARCHAR(255) NOT NULL,
+    symbol VARCHAR(255) NOT NULL,
+    pick_type VARCHAR(50) NOT NULL,
+    pick_day DATE NOT NULL,
+    pick_id BIGINT NOT NULL,
+    row_hash VARCHAR(64) NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_google_sheets_rows_key UNIQUE (spreadsheet_id, symbol, pick_type, pick_day)
+);
+
+-- Lets the sync find the most recent full scan without reading every sync record
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS full_scan BOOLEAN;
@@ -0,0 +1,17 @@
+-- SQL script to keep an incremental sync watermark per Google Sheets source
+
+-- One row per (spreadsheet, range) sync source, replacing the single watermark on
+-- google_sheets_sync; the first sync after this script runs is a full scan of every source.
+CREATE TABLE IF NOT EXISTS google_sheets_watermarks (
+    id BIGSERIAL PRIMARY KEY,
+    spreadsheet_id VARCHAR(255) NOT NULL,
+    sheet_range VARCHAR(255) NOT NULL,
+    last_row_index INTEGER,
+    last_row_hash VARCHAR(64),
+    last_full_scan_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_google_sheets_watermarks_source UNIQUE (spreadsheet_id, sheet_range)
+);
+
+ALTER TABLE google_sheets_sync DROP COLUMN IF EXISTS last_row_index;
+ALTER TABLE google_sheets_sync DROP COLUMN IF EXISTS last_row_hash;
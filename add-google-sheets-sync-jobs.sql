@@ -0,0 +1,8 @@
+-- SQL script to run manual Google Sheets syncs as jobs any instance can report on
+
+-- The run row is the job: its id is the job id and its status moves QUEUED -> RUNNING ->
+-- SUCCESS / FAILED / ABANDONED, with the stage in progress stored while it runs
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS stage VARCHAR(20);
+
+-- Lets a trigger find the sync queued or running on any instance
+CREATE INDEX IF NOT EXISTS idx_google_sheets_sync_active ON google_sheets_sync (id DESC) WHERE status IN ('QUEUED', 'RUNNING');
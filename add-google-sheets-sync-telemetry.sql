@@ -0,0 +1,21 @@
+-- SQL script to record per-run telemetry on google_sheets_sync
+
+ALTER TABLE google_sheets_sync ALTER COLUMN error_message TYPE VARCHAR(2000);
+
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS started_at TIMESTAMP;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS finished_at TIMESTAMP;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS duration_ms BIGINT;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS auth_ms BIGINT;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS fetch_ms BIGINT;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS parse_ms BIGINT;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS dedupe_ms BIGINT;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS write_ms BIGINT;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS rows_per_second DOUBLE PRECISION;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS inserted_records INTEGER;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS updated_records INTEGER;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS skipped_records INTEGER;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS deactivated_records INTEGER;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS failed_records INTEGER;
+
+-- The sync looks up the latest successful run (watermark) and latest successful full scan
+CREATE INDEX IF NOT EXISTS idx_google_sheets_sync_status_time ON google_sheets_sync (status, last_sync_time DESC);
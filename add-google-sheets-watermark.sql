@@ -0,0 +1,4 @@
+-- SQL script to add the incremental sync watermark to google_sheets_sync
+
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS last_row_index INTEGER;
+ALTER TABLE google_sheets_sync ADD COLUMN IF NOT EXISTS last_row_hash VARCHAR(64);
@@ -0,0 +1,11 @@
+-- SQL script to add cluster-wide leases for scheduled jobs
+
+-- One row per job. A node runs a job only while it holds an unexpired lease; the fencing
+-- token increases whenever the lease passes to another owner.
+CREATE TABLE IF NOT EXISTS job_leases (
+    job_name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(255) NOT NULL,
+    fencing_token BIGINT NOT NULL,
+    acquired_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,20 @@
+-- SQL script to add the price_alerts table
+
+CREATE TABLE IF NOT EXISTS price_alerts (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    symbol VARCHAR(255) NOT NULL,
+    direction VARCHAR(50) NOT NULL,
+    target_price NUMERIC(10, 2) NOT NULL,
+    is_active BOOLEAN DEFAULT true,
+    triggered_at TIMESTAMP,
+    triggered_price NUMERIC(10, 2),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS idx_price_alerts_user_id ON price_alerts (user_id, created_at DESC);
+
+-- The alert index loads armed alerts in full at startup and per symbol after each edit
+CREATE INDEX IF NOT EXISTS idx_price_alerts_active_symbol ON price_alerts (symbol) WHERE is_active;
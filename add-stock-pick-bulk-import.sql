@@ -0,0 +1,5 @@
+-- SQL script to enable batched stock pick inserts
+
+-- Hibernate allocates stock pick ids 50 at a time from this sequence (pooled optimizer),
+-- so its increment must match the allocationSize declared on the entity
+ALTER SEQUENCE stock_picks_id_seq INCREMENT BY 50;
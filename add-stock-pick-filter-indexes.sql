@@ -0,0 +1,9 @@
+-- SQL script to add indexes supporting the combined stock pick filter
+
+-- Most filter requests ask for active picks only; a partial index keeps them in
+-- keyset order without carrying the closed picks
+CREATE INDEX IF NOT EXISTS idx_stock_picks_active_pick_date_id ON stock_picks (pick_date DESC, id DESC) WHERE is_active;
+CREATE INDEX IF NOT EXISTS idx_stock_picks_active_type_pick_date_id ON stock_picks (pick_type, pick_date DESC, id DESC) WHERE is_active;
+
+-- Symbol lists (symbol IN (...)) combined with the active flag
+CREATE INDEX IF NOT EXISTS idx_stock_picks_symbol_active_pick_date_id ON stock_picks (symbol, is_active, pick_date DESC, id DESC);
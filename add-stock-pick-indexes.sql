@@ -0,0 +1,11 @@
+-- SQL script to add indexes supporting paginated stock pick listings
+
+-- Listings walk picks in (pick_date DESC, id DESC) order; each listing filter gets a
+-- composite index whose trailing columns match that order. The per-endpoint listings are
+-- served from the in-memory read model, so these indexes back the queries that still run
+-- in that order: the read model's full reload (findAllSummaries) and the keyset-paged
+-- combined filter (StockPickRepositoryImpl.findSummaries) when it filters on pick type or
+-- symbol without the active flag.
+CREATE INDEX IF NOT EXISTS idx_stock_picks_pick_date_id ON stock_picks (pick_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_stock_picks_type_pick_date_id ON stock_picks (pick_type, pick_date DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_stock_picks_symbol_pick_date_id ON stock_picks (symbol, pick_date DESC, id DESC);
@@ -0,0 +1,17 @@
+-- SQL script to add the stock pick outcomes table
+
+-- One row per pick closed by a target or stop-loss hit. pick_id has no foreign key:
+-- stock_picks is partitioned and its primary key is (id, pick_day).
+CREATE TABLE IF NOT EXISTS stock_pick_outcomes (
+    id BIGSERIAL PRIMARY KEY,
+    pick_id BIGINT NOT NULL,
+    symbol VARCHAR(255) NOT NULL,
+    outcome VARCHAR(50) NOT NULL,
+    threshold_price NUMERIC(10, 2),
+    hit_price NUMERIC(10, 2),
+    hit_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_stock_pick_outcomes_pick_id UNIQUE (pick_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_stock_pick_outcomes_hit_at ON stock_pick_outcomes (hit_at DESC);
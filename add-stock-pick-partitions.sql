@@ -0,0 +1,112 @@
+-- SQL script to partition stock_picks by quarter on pick_day
+--
+-- Run after add-stock-pick-pick-day.sql, add-stock-pick-search.sql and
+-- add-stock-pick-bulk-import.sql. The table is rebuilt as a partitioned table and the
+-- rows are copied across in one transaction.
+--
+-- Postgres requires every unique constraint on a partitioned table to include the
+-- partition key: the primary key becomes (id, pick_day), and the de-duplication
+-- constraint (symbol, pick_type, pick_day) already qualifies. Queries prune on pick_day,
+-- so date filters on pick_date must also bound pick_day (see StockPickRepository).
+
+BEGIN;
+
+ALTER TABLE stock_picks RENAME TO stock_picks_unpartitioned;
+ALTER TABLE stock_picks_unpartitioned RENAME CONSTRAINT uk_stock_picks_symbol_type_day TO uk_stock_picks_unpartitioned_symbol_type_day;
+
+-- Identity columns are not supported on partitioned tables, so ids come from a
+-- standalone sequence. It is positioned past the existing ids for Hibernate's pooled
+-- allocator, which hands out the 50 ids ending at the value it fetches.
+ALTER SEQUENCE IF EXISTS stock_picks_id_seq RENAME TO stock_picks_unpartitioned_id_seq;
+CREATE SEQUENCE stock_picks_id_seq INCREMENT BY 50;
+SELECT setval('stock_picks_id_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM stock_picks_unpartitioned), false);
+
+CREATE TABLE stock_picks (
+    id BIGINT NOT NULL DEFAULT nextval('stock_picks_id_seq'),
+    symbol VARCHAR(255) NOT NULL,
+    company_name VARCHAR(255),
+    pick_type VARCHAR(255),
+    entry_price NUMERIC(10, 2),
+    target_price NUMERIC(10, 2),
+    stop_loss NUMERIC(10, 2),
+    commentary TEXT,
+    pick_date TIMESTAMP(6) NOT NULL,
+    pick_day DATE NOT NULL,
+    created_at TIMESTAMP(6),
+    is_active BOOLEAN,
+    updated_at TIMESTAMP(6),
+    current_price NUMERIC(38, 2),
+    search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(symbol, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(company_name, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(commentary, '')), 'C')
+    ) STORED,
+    CONSTRAINT pk_stock_picks PRIMARY KEY (id, pick_day),
+    CONSTRAINT uk_stock_picks_symbol_type_day UNIQUE (symbol, pick_type, pick_day)
+) PARTITION BY RANGE (pick_day);
+
+ALTER SEQUENCE stock_picks_id_seq OWNED BY stock_picks.id;
+
+-- Catches picks dated outside every quarter partition (for example a mistyped year)
+CREATE TABLE stock_picks_default PARTITION OF stock_picks DEFAULT;
+
+-- Creates the partition for the quarter containing the given day, if missing, and
+-- moves any of that quarter's rows out of the default partition into it.
+-- Called for upcoming quarters by StockPickPartitionMaintenance.
+CREATE OR REPLACE FUNCTION create_stock_picks_partition(day_in_quarter DATE) RETURNS TEXT AS $$
+DECLARE
+    start_day DATE := date_trunc('quarter', day_in_quarter)::date;
+    end_day DATE := (date_trunc('quarter', day_in_quarter) + INTERVAL '3 months')::date;
+    partition_name TEXT := format('stock_picks_%s_q%s', to_char(start_day, 'YYYY'), to_char(start_day, 'Q'));
+    columns TEXT := 'id, symbol, company_name, pick_type, entry_price, target_price, stop_loss, commentary, '
+                 || 'pick_date, pick_day, created_at, is_active, updated_at, current_price';
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+
+    -- A new range partition cannot be attached while the default partition holds rows in its range
+    CREATE TEMP TABLE stock_picks_moving (LIKE stock_picks) ON COMMIT DROP;
+    ALTER TABLE stock_picks_moving DROP COLUMN search_vector;
+    EXECUTE format('WITH moved AS (DELETE FROM stock_picks_default WHERE pick_day >= %L AND pick_day < %L RETURNING %s) '
+                   'INSERT INTO stock_picks_moving (%s) SELECT %s FROM moved', start_day, end_day, columns, columns, columns);
+
+    EXECUTE format('CREATE TABLE %I PARTITION OF stock_picks FOR VALUES FROM (%L) TO (%L)', partition_name, start_day, end_day);
+
+    EXECUTE format('INSERT INTO stock_picks (%s) SELECT %s FROM stock_picks_moving', columns, columns);
+    DROP TABLE stock_picks_moving;
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Partitions for every quarter that has picks, plus the current and next quarter
+SELECT create_stock_picks_partition(quarter::date)
+FROM generate_series(
+        date_trunc('quarter', LEAST((SELECT MIN(pick_day) FROM stock_picks_unpartitioned), CURRENT_DATE)),
+        date_trunc('quarter', CURRENT_DATE) + INTERVAL '3 months',
+        INTERVAL '3 months') AS quarter;
+
+INSERT INTO stock_picks (id, symbol, company_name, pick_type, entry_price, target_price, stop_loss, commentary,
+                         pick_date, pick_day, created_at, is_active, updated_at, current_price)
+SELECT id, symbol, company_name, pick_type, entry_price, target_price, stop_loss, commentary,
+       pick_date, pick_day, created_at, is_active, updated_at, current_price
+FROM stock_picks_unpartitioned;
+
+-- Indexes declared on the parent are created on every partition, present and future
+CREATE INDEX idx_stock_picks_pick_date_id ON stock_picks (pick_date DESC, id DESC);
+CREATE INDEX idx_stock_picks_type_pick_date_id ON stock_picks (pick_type, pick_date DESC, id DESC);
+CREATE INDEX idx_stock_picks_symbol_pick_date_id ON stock_picks (symbol, pick_date DESC, id DESC);
+CREATE INDEX idx_stock_picks_active_pick_date_id ON stock_picks (pick_date DESC, id DESC) WHERE is_active;
+CREATE INDEX idx_stock_picks_active_type_pick_date_id ON stock_picks (pick_type, pick_date DESC, id DESC) WHERE is_active;
+CREATE INDEX idx_stock_picks_symbol_active_pick_date_id ON stock_picks (symbol, is_active, pick_date DESC, id DESC);
+CREATE INDEX idx_stock_picks_search_vector ON stock_picks USING GIN (search_vector);
+
+DROP TABLE stock_picks_unpartitioned;
+
+COMMIT;
+
+-- Archiving an old quarter: detaching keeps its rows as a standalone table that no
+-- longer appears in listings, search or exports. It can then be dumped or moved to a
+-- cheaper tablespace, and re-attached with ALTER TABLE ... ATTACH PARTITION if needed.
+--
+--   ALTER TABLE stock_picks DETACH PARTITION stock_picks_2019_q1 CONCURRENTLY;
@@ -0,0 +1,18 @@
+-- SQL script to de-duplicate stock picks on a stored pick_day column
+
+-- Calendar day of pick_date, kept as a plain column so lookups and the unique
+-- constraint below can use an index instead of evaluating DATE(pick_date) per row
+ALTER TABLE stock_picks ADD COLUMN IF NOT EXISTS pick_day DATE;
+UPDATE stock_picks SET pick_day = pick_date::date WHERE pick_day IS NULL;
+ALTER TABLE stock_picks ALTER COLUMN pick_day SET NOT NULL;
+
+-- Remove duplicates created by concurrent syncs, keeping the earliest row
+DELETE FROM stock_picks newer
+USING stock_picks older
+WHERE newer.symbol = older.symbol
+  AND newer.pick_type = older.pick_type
+  AND newer.pick_day = older.pick_day
+  AND newer.id > older.id;
+
+-- Target of INSERT ... ON CONFLICT (symbol, pick_type, pick_day) DO NOTHING
+ALTER TABLE stock_picks ADD CONSTRAINT uk_stock_picks_symbol_type_day UNIQUE (symbol, pick_type, pick_day);
@@ -0,0 +1,12 @@
+-- SQL script to add full-text search over stock picks
+
+-- Weighted document: symbol ranks above company name, which ranks above commentary.
+-- As a generated column it is recomputed by Postgres on every insert and update.
+ALTER TABLE stock_picks ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(symbol, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(company_name, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(commentary, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_stock_picks_search_vector ON stock_picks USING GIN (search_vector);
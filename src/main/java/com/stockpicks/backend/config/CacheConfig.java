@@ -1,17 +1,32 @@
 package com.stockpicks.backend.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @EnableCaching
 public class CacheConfig {
 
+    @Value("${yahoo.finance.cache.ttl.minutes:15}")
+    private long ttlMinutes;
+
+    @Value("${yahoo.finance.cache.max-entries:2000}")
+    private long maxEntries;
+
+    // Entries expire so that quotes, charts and backtest candles pick up new market days
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("yahooFinanceChart", "yahooFinanceQuote");
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager("yahooFinanceChart", "yahooFinanceQuote", "yahooFinanceDailyCandles");
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxEntries));
+        return cacheManager;
     }
-}
\ No newline at end of file
+}
@@ -5,10 +5,13 @@ import com.stockpicks.backend.dto.admin.AdminRegisterRequest;
 import com.stockpicks.backend.dto.admin.AdminResponse;
 import com.stockpicks.backend.dto.user.UserResponse;
 import com.stockpicks.backend.entity.Admin;
+import com.stockpicks.backend.entity.JobLease;
 import com.stockpicks.backend.entity.UserFile;
 import com.stockpicks.backend.security.JwtUtil;
 import com.stockpicks.backend.service.AdminService;
 import com.stockpicks.backend.service.FileService;
+import com.stockpicks.backend.service.JobLeaseService;
+import com.stockpicks.backend.service.StockPickImportService;
 import com.stockpicks.backend.service.UserService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +23,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.File;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -37,6 +41,12 @@ public class AdminController {
     @Autowired
     private FileService fileService;
 
+    @Autowired
+    private StockPickImportService stockPickImportService;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -209,6 +219,25 @@ public class AdminController {
         }
     }
 
+    // Ingests a previously uploaded .xlsx workbook into stock picks (Google Sheets column layout)
+    @PostMapping("/files/{id}/import-picks")
+    public ResponseEntity<?> importStockPicksFromFile(@PathVariable Long id, Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return ResponseEntity.status(403).body("Access denied");
+        }
+
+        try {
+            UserFile userFile = fileService.getFileById(id);
+            if (userFile == null || !userFile.isActive()) {
+                return ResponseEntity.notFound().build();
+            }
+
+            return ResponseEntity.ok(stockPickImportService.importXlsx(new File(userFile.getFilePath())));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error importing stock picks: " + e.getMessage());
+        }
+    }
+
     @GetMapping("/files/{id}/download")
     public ResponseEntity<Resource> downloadFile(@PathVariable Long id, Authentication authentication, @RequestParam(required = false) String token) {
         if (!isAdmin(authentication)) {
@@ -232,6 +261,20 @@ public class AdminController {
         }
     }
 
+    // Which instance holds each scheduled job's lease; lease metrics are under /actuator/metrics/job.lease.*
+    @GetMapping("/job-leases")
+    public ResponseEntity<List<JobLease>> getJobLeases(Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            return ResponseEntity.ok(jobLeaseService.getLeases());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     private boolean isAdmin(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             return false;
@@ -0,0 +1,51 @@
+package com.stockpicks.backend.controller;
+
+import com.stockpicks.backend.dto.backtest.BacktestRequest;
+import com.stockpicks.backend.dto.backtest.BacktestResult;
+import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.service.BacktestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/public/backtest")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+public class BacktestController {
+
+    @Autowired
+    private BacktestService backtestService;
+
+    @GetMapping
+    public ResponseEntity<BacktestResult> runBacktest(
+            @RequestParam(required = false) List<PickType> type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "true") boolean exitOnStopOrTarget,
+            @RequestParam(defaultValue = "0") int holdDays,
+            @RequestParam(defaultValue = "0") double initialCapital,
+            @RequestParam(defaultValue = "0") double stakePerPick) {
+        try {
+            BacktestRequest request = new BacktestRequest(type, fromDate, toDate, exitOnStopOrTarget, holdDays, initialCapital, stakePerPick);
+            BacktestResult result = backtestService.runBacktest(request);
+            // Results missing some symbols' candles are partial; don't let caches keep them either
+            CacheControl cacheControl = result.getSymbolsWithoutCandles() > 0
+                    ? CacheControl.noStore()
+                    : CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+            return ResponseEntity.ok().cacheControl(cacheControl).body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(429).header("Retry-After", "60").body(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(503).body(null);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.stockpicks.backend.controller;
+
+import com.stockpicks.backend.dto.alert.PriceAlertRequest;
+import com.stockpicks.backend.entity.PriceAlert;
+import com.stockpicks.backend.service.PriceAlertService;
+import com.stockpicks.backend.service.SubscriptionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/alerts")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:5173"})
+public class PriceAlertController {
+
+    @Autowired
+    private PriceAlertService priceAlertService;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @GetMapping
+    public ResponseEntity<List<PriceAlert>> getAlerts(Authentication authentication) {
+        if (!isSubscriber(authentication)) {
+            return ResponseEntity.status(403).body(null);
+        }
+        return ResponseEntity.ok(priceAlertService.getAlerts(authentication.getName()));
+    }
+
+    @PostMapping
+    public ResponseEntity<?> createAlert(@Valid @RequestBody PriceAlertRequest request, Authentication authentication) {
+        if (!isSubscriber(authentication)) {
+            return ResponseEntity.status(403).body("Price alerts require an active subscription");
+        }
+        
+        try {
+            return ResponseEntity.ok(priceAlertService.createAlert(authentication.getName(), request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<?> updateAlert(@PathVariable Long id, @Valid @RequestBody PriceAlertRequest request, Authentication authentication) {
+        if (!isSubscriber(authentication)) {
+            return ResponseEntity.status(403).body("Price alerts require an active subscription");
+        }
+        
+        try {
+            return ResponseEntity.ok(priceAlertService.updateAlert(authentication.getName(), id, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteAlert(@PathVariable Long id, Authentication authentication) {
+        if (!isSubscriber(authentication)) {
+            return ResponseEntity.status(403).body("Price alerts require an active subscription");
+        }
+        
+        try {
+            priceAlertService.deleteAlert(authentication.getName(), id);
+            return ResponseEntity.ok().build();
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    private boolean isSubscriber(Authentication authentication) {
+        return authentication != null && subscriptionService.hasActiveSubscription(authentication.getName());
+    }
+}
@@ -1,18 +1,40 @@
 package com.stockpicks.backend.controller;
 
+import com.stockpicks.backend.dto.stockpick.StockPickFilter;
+import com.stockpicks.backend.dto.stockpick.StockPickPageResponse;
+import com.stockpicks.backend.dto.stockpick.StockPickSearchResponse;
+import com.stockpicks.backend.dto.sync.SyncJobStatus;
 import com.stockpicks.backend.entity.GoogleSheetsSync;
 import com.stockpicks.backend.entity.StockPick;
 import com.stockpicks.backend.enums.PickType;
 import com.stockpicks.backend.service.YahooFinanceService;
 import com.stockpicks.backend.service.GoogleSheetsService;
+import com.stockpicks.backend.service.GoogleSheetsSyncJobService;
+import com.stockpicks.backend.service.AdminService;
+import com.stockpicks.backend.service.FreeTierResponseCache;
+import com.stockpicks.backend.service.StockPickChangeFeed;
+import com.stockpicks.backend.service.StockPickExportService;
+import com.stockpicks.backend.service.StockPickImportService;
+import com.stockpicks.backend.service.StockPickReadModel;
 import com.stockpicks.backend.service.StockPickService;
 import com.stockpicks.backend.service.SubscriptionService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.net.URI;
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +44,9 @@ import java.util.Optional;
 @CrossOrigin(origins = "http://localhost:3000")
 public class StockPickController {
 
+    // Clients may keep pick responses but must revalidate them with the ETag before reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     @Autowired
     private StockPickService stockPickService;
 
@@ -30,92 +55,243 @@ public class StockPickController {
     
     @Autowired
     private GoogleSheetsService googleSheetsService;
+
+    @Autowired
+    private GoogleSheetsSyncJobService googleSheetsSyncJobService;
     
     @Autowired
     private YahooFinanceService yahooFinanceService;
 
+    @Autowired
+    private StockPickReadModel stockPickReadModel;
+
+    @Autowired
+    private StockPickChangeFeed stockPickChangeFeed;
+
+    @Autowired
+    private StockPickExportService stockPickExportService;
+
+    @Autowired
+    private StockPickImportService stockPickImportService;
+
+    @Autowired
+    private FreeTierResponseCache freeTierResponseCache;
+
+    @Autowired
+    private AdminService adminService;
+
     @GetMapping
-    public ResponseEntity<List<StockPick>> getAllStockPicks(Authentication authentication) {
+    public ResponseEntity<?> getAllStockPicks(@RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "50") int size,
+                                              Authentication authentication,
+                                              WebRequest webRequest) {
         if (authentication != null && subscriptionService.hasActiveSubscription(authentication.getName())) {
-            List<StockPick> stockPicks = stockPickService.getAllStockPicks();
-            return ResponseEntity.ok(stockPicks);
+            if (isNotModified(webRequest, "subscriber")) {
+                return null;
+            }
+            try {
+                return ResponseEntity.ok().cacheControl(REVALIDATE).body(stockPickService.getStockPicks(cursor, size));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().body(null);
+            }
         } else {
-            List<StockPick> recentPicks = stockPickService.getRecentStockPicks(5);
-            return ResponseEntity.ok(recentPicks);
+            if (isNotModified(webRequest, "free")) {
+                return null;
+            }
+            return cachedJson(freeTierResponseCache.freeListing());
         }
     }
 
     @GetMapping("/type/{pickType}")
-    public ResponseEntity<List<StockPick>> getStockPicksByType(@PathVariable PickType pickType, Authentication authentication) {
+    public ResponseEntity<StockPickPageResponse> getStockPicksByType(@PathVariable PickType pickType,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "50") int size,
+                                                                     Authentication authentication,
+                                                                     WebRequest webRequest) {
         if (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName())) {
             return ResponseEntity.status(403).body(null);
         }
         
-        List<StockPick> stockPicks = stockPickService.getStockPicksByType(pickType);
-        return ResponseEntity.ok(stockPicks);
+        if (isNotModified(webRequest, "subscriber")) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(stockPickService.getStockPicksByType(pickType, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
     }
 
     @GetMapping("/symbol/{symbol}")
-    public ResponseEntity<List<StockPick>> getStockPicksBySymbol(@PathVariable String symbol, Authentication authentication) {
+    public ResponseEntity<StockPickPageResponse> getStockPicksBySymbol(@PathVariable String symbol,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "50") int size,
+                                                                       Authentication authentication,
+                                                                       WebRequest webRequest) {
         if (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName())) {
             return ResponseEntity.status(403).body(null);
         }
         
-        List<StockPick> stockPicks = stockPickService.getStockPicksBySymbol(symbol);
-        return ResponseEntity.ok(stockPicks);
+        if (isNotModified(webRequest, "subscriber")) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(stockPickService.getStockPicksBySymbol(symbol, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<StockPickPageResponse> filterStockPicks(
+            @RequestParam(required = false) List<PickType> type,
+            @RequestParam(required = false) List<String> symbols,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) Boolean isActive,
+            @RequestParam(required = false) BigDecimal minReturn,
+            @RequestParam(required = false) BigDecimal maxReturn,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication,
+            WebRequest webRequest) {
+        
+        if (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName())) {
+            return ResponseEntity.status(403).body(null);
+        }
+        
+        if (isNotModified(webRequest, "subscriber")) {
+            return null;
+        }
+        try {
+            StockPickFilter filter = new StockPickFilter(type, symbols, startDate, endDate, isActive, minReturn, maxReturn);
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(stockPickService.filterStockPicks(filter, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
+    }
+
+    @GetMapping(value = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStockPickChanges(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                                             Authentication authentication) {
+        // Entitlement is checked once per connection, not per pushed event
+        if (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName())) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        return ResponseEntity.ok(stockPickChangeFeed.subscribe(lastEventId));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStockPicks(@RequestParam(defaultValue = "csv") String format,
+                                                                  Authentication authentication) {
+        if (!isAdmin(authentication) && (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName()))) {
+            return ResponseEntity.status(403).build();
+        }
+        
+        String filename = "stock-picks-" + LocalDate.now();
+        if ("ndjson".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".ndjson\"")
+                    .body(stockPickExportService::writeNdjson);
+        } else if ("csv".equalsIgnoreCase(format)) {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType("text/csv; charset=UTF-8"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".csv\"")
+                    .body(stockPickExportService::writeCsv);
+        }
+        return ResponseEntity.badRequest().build();
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<StockPickSearchResponse> searchStockPicks(@RequestParam String q,
+                                                                    @RequestParam(defaultValue = "0") int page,
+                                                                    @RequestParam(defaultValue = "20") int size,
+                                                                    Authentication authentication) {
+        if (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName())) {
+            return ResponseEntity.status(403).body(null);
+        }
+        
+        try {
+            return ResponseEntity.ok(stockPickService.searchStockPicks(q, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<StockPick> getStockPickById(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<StockPick> getStockPickById(@PathVariable Long id, Authentication authentication, WebRequest webRequest) {
         if (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName())) {
             return ResponseEntity.status(403).body(null);
         }
         
+        if (isNotModified(webRequest, "subscriber")) {
+            return null;
+        }
         Optional<StockPick> stockPick = stockPickService.getStockPickById(id);
-        return stockPick.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+        return stockPick.map(pick -> ResponseEntity.ok().cacheControl(REVALIDATE).body(pick))
+                .orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<List<StockPick>> getRecentStockPicks(@RequestParam(defaultValue = "10") int limit) {
-        List<StockPick> recentPicks = stockPickService.getRecentStockPicks(limit);
-        return ResponseEntity.ok(recentPicks);
+    public ResponseEntity<byte[]> getRecentStockPicks(@RequestParam(defaultValue = "10") int limit, WebRequest webRequest) {
+        if (isNotModified(webRequest, "recent")) {
+            return null;
+        }
+        return cachedJson(freeTierResponseCache.recent(limit));
     }
 
     @GetMapping("/date-range")
-    public ResponseEntity<List<StockPick>> getStockPicksByDateRange(
+    public ResponseEntity<StockPickPageResponse> getStockPicksByDateRange(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
-            Authentication authentication) {
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            Authentication authentication,
+            WebRequest webRequest) {
         
         if (authentication == null || !subscriptionService.hasActiveSubscription(authentication.getName())) {
             return ResponseEntity.status(403).body(null);
         }
         
-        List<StockPick> stockPicks = stockPickService.getStockPicksByDateRange(startDate, endDate);
-        return ResponseEntity.ok(stockPicks);
+        if (isNotModified(webRequest, "subscriber")) {
+            return null;
+        }
+        try {
+            return ResponseEntity.ok().cacheControl(REVALIDATE).body(stockPickService.getStockPicksByDateRange(startDate, endDate, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(null);
+        }
     }
 
+    // Starts a background sync, or joins the one already running on any instance; poll or stream the returned job
     @PostMapping("/sync")
     public ResponseEntity<?> syncStockPicksFromGoogleSheets() {
         try {
-            int newPicksCount = stockPickService.syncStockPicksFromGoogleSheets();
-            
-            // Create response object with sync results
-            var syncResult = new java.util.HashMap<String, Object>();
-            syncResult.put("newPicksCount", newPicksCount);
-            
-            if (newPicksCount > 0) {
-                syncResult.put("message", newPicksCount + " new stock pick" + (newPicksCount == 1 ? "" : "s") + " added successfully!");
-            } else {
-                syncResult.put("message", "Your stock picks are already up-to-date! No new picks found.");
-            }
-            
-            return ResponseEntity.ok(syncResult);
+            SyncJobStatus job = googleSheetsSyncJobService.submit();
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/stock-picks/sync/jobs/" + job.getJobId()))
+                    .body(job);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("Error syncing stock picks: " + e.getMessage());
         }
     }
-    
+
+    @GetMapping("/sync/jobs/{jobId}")
+    public ResponseEntity<SyncJobStatus> getSyncJob(@PathVariable String jobId) {
+        SyncJobStatus job = googleSheetsSyncJobService.getJob(jobId);
+        return job != null ? ResponseEntity.ok(job) : ResponseEntity.notFound().build();
+    }
+
+    @GetMapping(value = "/sync/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamSyncJob(@PathVariable String jobId) {
+        SseEmitter emitter = googleSheetsSyncJobService.subscribe(jobId);
+        return emitter != null ? ResponseEntity.ok(emitter) : ResponseEntity.notFound().build();
+    }
+
     @GetMapping("/sync/status")
     public ResponseEntity<?> getSyncStatus() {
         try {
@@ -132,6 +308,10 @@ public class StockPickController {
                 syncStatus.put("rowsProcessed", lastSync.getRowsProcessed());
                 syncStatus.put("spreadsheetId", lastSync.getSpreadsheetId());
                 syncStatus.put("lastSyncRange", lastSync.getLastSyncRange());
+                syncStatus.put("status", lastSync.getStatus());
+                syncStatus.put("errorMessage", lastSync.getErrorMessage());
+                syncStatus.put("processedRecords", lastSync.getProcessedRecords());
+                syncStatus.put("durationMs", lastSync.getDurationMs());
             } else {
                 syncStatus.put("lastSyncTime", null);
                 syncStatus.put("message", "No sync history available");
@@ -143,10 +323,55 @@ public class StockPickController {
         }
     }
 
+    // Most recent sync runs with per-stage timings and row counts, newest first
+    @GetMapping("/sync/history")
+    public ResponseEntity<?> getSyncHistory(@RequestParam(defaultValue = "20") int limit, Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return ResponseEntity.status(403).body("Access denied");
+        }
+        
+        try {
+            return ResponseEntity.ok(googleSheetsService.getSyncHistory(Math.max(1, Math.min(limit, 100))));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error getting sync history: " + e.getMessage());
+        }
+    }
+
     @PostMapping
     public ResponseEntity<StockPick> createStockPick(@RequestBody StockPick stockPick) {
-        StockPick savedStockPick = stockPickService.saveStockPick(stockPick);
-        return ResponseEntity.ok(savedStockPick);
+        try {
+            StockPick savedStockPick = stockPickService.saveStockPick(stockPick);
+            return ResponseEntity.ok(savedStockPick);
+        } catch (DataIntegrityViolationException e) {
+            // A pick for this symbol and type already exists on that day
+            return ResponseEntity.status(409).body(null);
+        }
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<?> bulkImportCsv(InputStream body, Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return ResponseEntity.status(403).body("Access denied");
+        }
+        
+        try {
+            return ResponseEntity.ok(stockPickImportService.importCsv(body));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error importing stock picks: " + e.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> bulkImportJson(InputStream body, Authentication authentication) {
+        if (!isAdmin(authentication)) {
+            return ResponseEntity.status(403).body("Access denied");
+        }
+        
+        try {
+            return ResponseEntity.ok(stockPickImportService.importJson(body));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("Error importing stock picks: " + e.getMessage());
+        }
     }
 
     @PutMapping("/{id}")
@@ -154,6 +379,8 @@ public class StockPickController {
         try {
             StockPick updatedStockPick = stockPickService.updateStockPick(id, stockPick);
             return ResponseEntity.ok(updatedStockPick);
+        } catch (DataIntegrityViolationException e) {
+            return ResponseEntity.status(409).body(null);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -218,4 +445,36 @@ public class StockPickController {
             return ResponseEntity.badRequest().body("Error fetching batch chart data: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    private boolean isAdmin(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        try {
+            return adminService.findByEmail(authentication.getName()).isPresent();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Answers a conditional GET from the pick-data content tag alone. The ETag carries the
+     * entitlement variant because free and subscriber callers get different bodies for the
+     * same URL. When this returns true the response is already a 304 and the handler must
+     * return null without loading or serializing any picks.
+     */
+    private boolean isNotModified(WebRequest webRequest, String variant) {
+        StockPickReadModel.Snapshot snapshot = stockPickReadModel.current();
+        return webRequest.checkNotModified(snapshot.eTag(variant), snapshot.getLastModified().toEpochMilli());
+    }
+
+    // Writes a pre-serialized free-tier body as-is, skipping Jackson
+    private ResponseEntity<byte[]> cachedJson(FreeTierResponseCache.CachedResponse response) {
+        return ResponseEntity.ok()
+                .cacheControl(REVALIDATE)
+                .eTag(response.getETag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response.getBody());
+    }
+}
@@ -0,0 +1,26 @@
+package com.stockpicks.backend.dto.alert;
+
+import com.stockpicks.backend.enums.AlertDirection;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceAlertRequest {
+    @NotBlank(message = "Symbol is required")
+    private String symbol;
+
+    @NotNull(message = "Direction is required")
+    private AlertDirection direction;
+
+    @NotNull(message = "Target price is required")
+    @DecimalMin(value = "0.01", message = "Target price must be positive")
+    private BigDecimal targetPrice;
+}
@@ -0,0 +1,21 @@
+package com.stockpicks.backend.dto.alert;
+
+import com.stockpicks.backend.enums.AlertDirection;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * The fields of an active price alert needed to index it; loaded without the rest of the row.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PriceAlertThreshold {
+    private Long id;
+    private String symbol;
+    private AlertDirection direction;
+    private BigDecimal targetPrice;
+}
@@ -0,0 +1,29 @@
+package com.stockpicks.backend.dto.backtest;
+
+import com.stockpicks.backend.enums.PickType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Strategy parameters for a backtest. Every pick of the chosen types made between the
+ * optional dates is bought (or, for SELL picks, shorted) at its entry price with the same
+ * stake, then held until its exit rule fires or the candle data ends.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BacktestRequest {
+    private List<PickType> pickTypes;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    // Close a position on the day its stop-loss or target is reached
+    private boolean exitOnStopOrTarget;
+    // Close a position at the close of its Nth trading day (at most 365); 0 holds until the data ends
+    private int holdDays;
+    private double initialCapital;
+    private double stakePerPick;
+}
@@ -0,0 +1,32 @@
+package com.stockpicks.backend.dto.backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BacktestResult {
+    private BacktestRequest parameters;
+    private int picksTested;
+    // Picks without an entry price or without candle data on or after the pick date
+    private int picksSkipped;
+    // Symbols whose candles could not be fetched; such results are not cached
+    private int symbolsWithoutCandles;
+    private int winningPicks;
+    private double winRatePercent;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private double finalEquity;
+    private double totalReturnPercent;
+    private double cagrPercent;
+    private double maxDrawdownPercent;
+    private List<EquityPoint> equityCurve;
+    private long dataVersion;
+    private LocalDateTime generatedAt;
+}
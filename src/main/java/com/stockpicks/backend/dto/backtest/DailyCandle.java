@@ -0,0 +1,18 @@
+package com.stockpicks.backend.dto.backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyCandle {
+    private LocalDate date;
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+}
@@ -0,0 +1,17 @@
+package com.stockpicks.backend.dto.backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class EquityPoint {
+    private LocalDate date;
+    private double equity;
+    // Percentage below the highest equity reached so far
+    private double drawdownPercent;
+}
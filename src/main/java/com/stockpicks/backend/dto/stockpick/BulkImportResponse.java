@@ -0,0 +1,20 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkImportResponse {
+    private int totalRows;
+    private int imported;
+    private int duplicates;
+    private int failed;
+    private List<ImportRowError> errors;
+    // True when more rows failed than are listed in errors
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,13 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ImportRowError {
+    private int row;
+    private String message;
+}
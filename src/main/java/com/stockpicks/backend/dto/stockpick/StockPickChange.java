@@ -0,0 +1,20 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPickChange {
+    private long sequence;
+    private String type;
+    private List<Long> pickIds;
+    // Current summaries of created or updated picks; empty for deletions
+    private List<StockPickSummary> picks;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,28 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import com.stockpicks.backend.enums.PickType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Criteria for the combined pick filter. Every field is optional; null or empty fields
+ * do not constrain the result. Returns are percentages of the entry price, measured at
+ * the current price.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPickFilter {
+    private List<PickType> pickTypes;
+    private List<String> symbols;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private Boolean isActive;
+    private BigDecimal minReturn;
+    private BigDecimal maxReturn;
+}
@@ -0,0 +1,20 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import com.stockpicks.backend.enums.PickType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Natural key of a stock pick, matching the unique constraint on (symbol, pick_type, pick_day).
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPickKey {
+    private String symbol;
+    private PickType pickType;
+    private LocalDate pickDay;
+}
@@ -0,0 +1,16 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPickPageResponse {
+    private List<StockPickSummary> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
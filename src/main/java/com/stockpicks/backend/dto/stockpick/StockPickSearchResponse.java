@@ -0,0 +1,18 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPickSearchResponse {
+    private String query;
+    private List<StockPickSearchResult> results;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,22 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a full-text search hit: the list fields of a pick plus its relevance
+ * rank and a highlighted commentary snippet.
+ */
+public interface StockPickSearchResult {
+    Long getId();
+    String getSymbol();
+    String getCompanyName();
+    String getPickType();
+    BigDecimal getEntryPrice();
+    BigDecimal getTargetPrice();
+    BigDecimal getCurrentPrice();
+    LocalDateTime getPickDate();
+    Double getRank();
+    // HTML: escaped commentary with matches wrapped in <mark> tags
+    String getSnippet();
+}
@@ -0,0 +1,29 @@
+package com.stockpicks.backend.dto.stockpick;
+
+import com.stockpicks.backend.enums.PickType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * List view of a stock pick. Deliberately excludes the commentary TEXT column and audit
+ * fields; full detail is only served by the single-pick endpoint.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPickSummary {
+    private Long id;
+    private String symbol;
+    private String companyName;
+    private PickType pickType;
+    private BigDecimal entryPrice;
+    private BigDecimal targetPrice;
+    private BigDecimal stopLoss;
+    private BigDecimal currentPrice;
+    private LocalDateTime pickDate;
+    private Boolean isActive;
+}
@@ -0,0 +1,25 @@
+package com.stockpicks.backend.dto.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class SyncJobStatus {
+    private String jobId;
+    // QUEUED, RUNNING, SUCCEEDED or FAILED
+    private String status;
+    // Sync stage in progress while RUNNING: auth, fetch, parse, dedupe or write
+    private String stage;
+    // True when the trigger joined a sync that was already running instead of starting one
+    private boolean joined;
+    private LocalDateTime submittedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private Integer newPicksCount;
+    private String message;
+}
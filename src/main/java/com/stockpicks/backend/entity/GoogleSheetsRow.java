@@ -0,0 +1,52 @@
+package com.stockpicks.backend.entity;
+
+import com.stockpicks.backend.dto.stockpick.StockPickKey;
+import com.stockpicks.backend.enums.PickType;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Content hash of the sheet row a stock pick was last synced from. Rows are identified by
+ * the pick's natural key rather than by row number, so inserting or re-sorting rows in the
+ * sheet does not make every row below look changed.
+ */
+@Entity
+@Table(name = "google_sheets_rows", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_google_sheets_rows_key", columnNames = {"spreadsheet_id", "symbol", "pick_type", "pick_day"})
+})
+@Data
+@NoArgsConstructor
+public class GoogleSheetsRow {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String spreadsheetId;
+
+    @Column(nullable = false)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PickType pickType;
+
+    @Column(nullable = false)
+    private LocalDate pickDay;
+
+    @Column(nullable = false)
+    private Long pickId;
+
+    @Column(nullable = false, length = 64)
+    private String rowHash;
+
+    private LocalDateTime updatedAt;
+
+    public StockPickKey key() {
+        return new StockPickKey(symbol, pickType, pickDay);
+    }
+}
@@ -28,11 +28,52 @@ public class GoogleSheetsSync {
 
     private Integer processedRecords = 0;
 
+    // QUEUED, RUNNING, SUCCESS, FAILED or ABANDONED
     private String status = "PENDING";
 
+    // Stage in progress while RUNNING (auth, fetch, parse, dedupe or write), so any instance can report it
+    @Column(length = 20)
+    private String stage;
+
+    @Column(length = 2000)
     private String errorMessage;
 
     private LocalDateTime lastSyncTime;
 
     private Integer rowsProcessed;
-}
\ No newline at end of file
+
+    // Whether this sync read the whole sheet; edits above the watermark are only seen by full scans
+    private Boolean fullScan;
+
+    // Run telemetry: wall-clock bounds, then time spent per stage so a slow run can be
+    // attributed to Google (auth, fetch), our own code (parse) or Postgres (dedupe, write)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private Long durationMs;
+
+    private Long authMs;
+
+    private Long fetchMs;
+
+    private Long parseMs;
+
+    private Long dedupeMs;
+
+    private Long writeMs;
+
+    private Double rowsPerSecond;
+
+    private Integer insertedRecords;
+
+    private Integer updatedRecords;
+
+    // Rows whose content hash was unchanged since the last sync
+    private Integer skippedRecords;
+
+    private Integer deactivatedRecords;
+
+    // Rows that could not be parsed
+    private Integer failedRecords;
+}
@@ -0,0 +1,38 @@
+package com.stockpicks.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Incremental sync position of one sync source: the last sheet row read and its content
+ * hash, which must still match before the next sync resumes below it.
+ */
+@Entity
+@Table(name = "google_sheets_watermarks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_google_sheets_watermarks_source", columnNames = {"spreadsheet_id", "sheet_range"})
+})
+@Data
+@NoArgsConstructor
+public class GoogleSheetsWatermark {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String spreadsheetId;
+
+    @Column(nullable = false)
+    private String sheetRange;
+
+    private Integer lastRowIndex;
+
+    @Column(length = 64)
+    private String lastRowHash;
+
+    private LocalDateTime lastFullScanAt;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.stockpicks.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide lease on a scheduled job. The fencing token increases every time the lease
+ * changes hands, so a node whose lease expired mid-run can tell that its writes are stale.
+ */
+@Entity
+@Table(name = "job_leases")
+@Data
+@NoArgsConstructor
+public class JobLease {
+    @Id
+    private String jobName;
+
+    @Column(nullable = false)
+    private String owner;
+
+    @Column(nullable = false)
+    private Long fencingToken;
+
+    @Column(nullable = false)
+    private LocalDateTime acquiredAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+}
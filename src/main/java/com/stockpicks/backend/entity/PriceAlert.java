@@ -0,0 +1,51 @@
+package com.stockpicks.backend.entity;
+
+import com.stockpicks.backend.enums.AlertDirection;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * A user's one-shot price alert: fires once when the symbol's price reaches the target
+ * from the given direction, then stays inactive until the user re-arms it.
+ */
+@Entity
+@Table(name = "price_alerts")
+@Data
+@NoArgsConstructor
+public class PriceAlert {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AlertDirection direction;
+
+    @Column(precision = 10, scale = 2, nullable = false)
+    private BigDecimal targetPrice;
+
+    private Boolean isActive = true;
+
+    private LocalDateTime triggeredAt;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal triggeredPrice;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
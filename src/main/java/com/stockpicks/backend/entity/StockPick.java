@@ -8,16 +8,21 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stock_picks")
+@Table(name = "stock_picks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_picks_symbol_type_day", columnNames = {"symbol", "pick_type", "pick_day"})
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class StockPick {
+    // Sequence ids (allocated 50 at a time) let Hibernate batch inserts; IDENTITY cannot
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "stock_picks_id_seq")
+    @SequenceGenerator(name = "stock_picks_id_seq", sequenceName = "stock_picks_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -43,6 +48,10 @@ public class StockPick {
     @Column(nullable = false)
     private LocalDateTime pickDate;
 
+    // Calendar day of pickDate, stored so de-duplication can use a plain unique index
+    @Column(nullable = false)
+    private LocalDate pickDay;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
@@ -51,4 +60,12 @@ public class StockPick {
     private LocalDateTime updatedAt;
 
     private BigDecimal currentPrice;
+
+    @PrePersist
+    @PreUpdate
+    void updatePickDay() {
+        if (pickDate != null) {
+            pickDay = pickDate.toLocalDate();
+        }
+    }
 }
\ No newline at end of file
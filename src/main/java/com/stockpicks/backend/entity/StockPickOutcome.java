@@ -0,0 +1,50 @@
+package com.stockpicks.backend.entity;
+
+import com.stockpicks.backend.enums.PickOutcome;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Records the target or stop-loss hit that closed a stock pick: the threshold that was
+ * crossed, the intraday price that crossed it and when the hit was observed.
+ */
+@Entity
+@Table(name = "stock_pick_outcomes", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stock_pick_outcomes_pick_id", columnNames = {"pick_id"})
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPickOutcome {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long pickId;
+
+    @Column(nullable = false)
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PickOutcome outcome;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal thresholdPrice;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal hitPrice;
+
+    @Column(nullable = false)
+    private LocalDateTime hitAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,6 @@
+package com.stockpicks.backend.enums;
+
+public enum AlertDirection {
+    ABOVE,
+    BELOW
+}
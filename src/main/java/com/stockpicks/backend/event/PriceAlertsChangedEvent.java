@@ -0,0 +1,32 @@
+package com.stockpicks.backend.event;
+
+import java.util.Set;
+
+/**
+ * Published after price alerts are created, updated or deleted, naming the symbols whose
+ * armed alerts changed so the alert index can reload them. Changes made on other instances
+ * are re-published locally as remote events.
+ */
+public class PriceAlertsChangedEvent {
+
+    private final Set<String> symbols;
+    private final boolean remote;
+
+    public PriceAlertsChangedEvent(Set<String> symbols) {
+        this(symbols, false);
+    }
+
+    public PriceAlertsChangedEvent(Set<String> symbols, boolean remote) {
+        this.symbols = Set.copyOf(symbols);
+        this.remote = remote;
+    }
+
+    public Set<String> getSymbols() {
+        return symbols;
+    }
+
+    /** True when the change was made on another instance and received over the broadcast. */
+    public boolean isRemote() {
+        return remote;
+    }
+}
@@ -0,0 +1,58 @@
+package com.stockpicks.backend.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Published after a round of quote refreshes for the symbols of active picks, carrying
+ * each symbol's latest price and intraday range.
+ */
+public class QuotesRefreshedEvent {
+
+    public static final class SymbolQuote {
+        private final String symbol;
+        private final BigDecimal price;
+        private final BigDecimal dayHigh;
+        private final BigDecimal dayLow;
+
+        public SymbolQuote(String symbol, BigDecimal price, BigDecimal dayHigh, BigDecimal dayLow) {
+            this.symbol = symbol;
+            this.price = price;
+            this.dayHigh = dayHigh;
+            this.dayLow = dayLow;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public BigDecimal getDayHigh() {
+            return dayHigh;
+        }
+
+        public BigDecimal getDayLow() {
+            return dayLow;
+        }
+    }
+
+    private final List<SymbolQuote> quotes;
+    private final LocalDateTime refreshedAt;
+
+    public QuotesRefreshedEvent(List<SymbolQuote> quotes, LocalDateTime refreshedAt) {
+        this.quotes = List.copyOf(quotes);
+        this.refreshedAt = refreshedAt;
+    }
+
+    public List<SymbolQuote> getQuotes() {
+        return quotes;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+}
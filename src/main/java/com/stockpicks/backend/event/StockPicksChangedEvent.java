@@ -0,0 +1,44 @@
+package com.stockpicks.backend.event;
+
+import java.util.List;
+
+/**
+ * Published after stock picks are created, updated or deleted, so that in-memory
+ * views of the pick table can refresh themselves once the change is committed.
+ * Changes committed by other instances are re-published locally as remote events.
+ */
+public class StockPicksChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final ChangeType changeType;
+    private final List<Long> pickIds;
+    private final boolean remote;
+
+    public StockPicksChangedEvent(ChangeType changeType, List<Long> pickIds) {
+        this(changeType, pickIds, false);
+    }
+
+    public StockPicksChangedEvent(ChangeType changeType, List<Long> pickIds, boolean remote) {
+        this.changeType = changeType;
+        this.pickIds = List.copyOf(pickIds);
+        this.remote = remote;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public List<Long> getPickIds() {
+        return pickIds;
+    }
+
+    /** True when the change was committed by another instance and received over the broadcast. */
+    public boolean isRemote() {
+        return remote;
+    }
+}
@@ -0,0 +1,13 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.entity.GoogleSheetsRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GoogleSheetsRowRepository extends JpaRepository<GoogleSheetsRow, Long>, GoogleSheetsRowRepositoryCustom {
+    List<GoogleSheetsRow> findBySpreadsheetIdIn(Collection<String> spreadsheetIds);
+}
@@ -0,0 +1,14 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.entity.GoogleSheetsRow;
+
+import java.util.List;
+
+public interface GoogleSheetsRowRepositoryCustom {
+
+    /**
+     * Inserts or replaces the stored hash of each row, keyed by spreadsheet and pick natural
+     * key, as one JDBC batch.
+     */
+    void upsertAll(List<GoogleSheetsRow> rows);
+}
@@ -0,0 +1,42 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.entity.GoogleSheetsRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class GoogleSheetsRowRepositoryImpl implements GoogleSheetsRowRepositoryCustom {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO google_sheets_rows (spreadsheet_id, symbol, pick_type, pick_day, pick_id, row_hash, updated_at) "
+            + "VALUES (:spreadsheetId, :symbol, :pickType, :pickDay, :pickId, :rowHash, :updatedAt) "
+            + "ON CONFLICT (spreadsheet_id, symbol, pick_type, pick_day) "
+            + "DO UPDATE SET pick_id = EXCLUDED.pick_id, row_hash = EXCLUDED.row_hash, updated_at = EXCLUDED.updated_at";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public void upsertAll(List<GoogleSheetsRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] batch = rows.stream()
+                .map(row -> new MapSqlParameterSource()
+                        .addValue("spreadsheetId", row.getSpreadsheetId(), Types.VARCHAR)
+                        .addValue("symbol", row.getSymbol(), Types.VARCHAR)
+                        .addValue("pickType", row.getPickType().name(), Types.VARCHAR)
+                        .addValue("pickDay", row.getPickDay(), Types.DATE)
+                        .addValue("pickId", row.getPickId(), Types.BIGINT)
+                        .addValue("rowHash", row.getRowHash(), Types.VARCHAR)
+                        .addValue("updatedAt", row.getUpdatedAt() != null ? row.getUpdatedAt() : now, Types.TIMESTAMP))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+    }
+}
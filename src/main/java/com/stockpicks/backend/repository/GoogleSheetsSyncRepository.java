@@ -1,10 +1,24 @@
 package com.stockpicks.backend.repository;
 
 import com.stockpicks.backend.entity.GoogleSheetsSync;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface GoogleSheetsSyncRepository extends JpaRepository<GoogleSheetsSync, Long> {
-    GoogleSheetsSync findTopByOrderByLastSyncTimeDesc();
-}
\ No newline at end of file
+    // Queued and running syncs have no lastSyncTime yet
+    GoogleSheetsSync findTopByLastSyncTimeIsNotNullOrderByLastSyncTimeDesc();
+
+    GoogleSheetsSync findTopByStatusInOrderByIdDesc(Collection<String> statuses);
+
+    List<GoogleSheetsSync> findByStatusIn(Collection<String> statuses);
+
+    boolean existsByLastSyncTimeAfter(LocalDateTime since);
+
+    List<GoogleSheetsSync> findAllByOrderByIdDesc(Pageable pageable);
+}
@@ -0,0 +1,13 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.entity.GoogleSheetsWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GoogleSheetsWatermarkRepository extends JpaRepository<GoogleSheetsWatermark, Long> {
+    List<GoogleSheetsWatermark> findBySpreadsheetIdIn(Collection<String> spreadsheetIds);
+}
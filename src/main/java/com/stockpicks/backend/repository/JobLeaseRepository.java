@@ -0,0 +1,9 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.entity.JobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobLeaseRepository extends JpaRepository<JobLease, String>, JobLeaseRepositoryCustom {
+}
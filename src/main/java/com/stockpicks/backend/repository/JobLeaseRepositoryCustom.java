@@ -0,0 +1,25 @@
+package com.stockpicks.backend.repository;
+
+import java.util.Optional;
+
+public interface JobLeaseRepositoryCustom {
+
+    /**
+     * Takes or renews the lease on a job in one statement. The lease is granted when nobody
+     * holds it, when it has expired, or when the caller already holds it. Expiry is computed
+     * from the database clock, so nodes with skewed clocks agree on it.
+     *
+     * @return the fencing token of the granted lease, or empty if another owner holds it
+     */
+    Optional<Long> tryAcquire(String jobName, String owner, long ttlSeconds);
+
+    /**
+     * Whether the lease identified by the fencing token is still held and unexpired.
+     */
+    boolean isCurrent(String jobName, long fencingToken);
+
+    /**
+     * Expires the lease immediately if the caller still holds it with this fencing token.
+     */
+    void release(String jobName, String owner, long fencingToken);
+}
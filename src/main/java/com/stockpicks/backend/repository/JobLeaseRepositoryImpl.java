@@ -0,0 +1,61 @@
+package com.stockpicks.backend.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+
+public class JobLeaseRepositoryImpl implements JobLeaseRepositoryCustom {
+
+    // The token advances only when ownership changes; renewals by the holder keep it
+    private static final String ACQUIRE_SQL =
+            "INSERT INTO job_leases (job_name, owner, fencing_token, acquired_at, expires_at) "
+            + "VALUES (:jobName, :owner, 1, now(), now() + make_interval(secs => :ttlSeconds)) "
+            + "ON CONFLICT (job_name) DO UPDATE SET "
+            + "fencing_token = CASE WHEN job_leases.owner = EXCLUDED.owner AND job_leases.expires_at > now() "
+            + "    THEN job_leases.fencing_token ELSE job_leases.fencing_token + 1 END, "
+            + "acquired_at = CASE WHEN job_leases.owner = EXCLUDED.owner AND job_leases.expires_at > now() "
+            + "    THEN job_leases.acquired_at ELSE EXCLUDED.acquired_at END, "
+            + "owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at "
+            + "WHERE job_leases.owner = EXCLUDED.owner OR job_leases.expires_at <= now() "
+            + "RETURNING fencing_token";
+
+    private static final String IS_CURRENT_SQL =
+            "SELECT count(*) FROM job_leases WHERE job_name = :jobName AND fencing_token = :fencingToken AND expires_at > now()";
+
+    private static final String RELEASE_SQL =
+            "UPDATE job_leases SET expires_at = now() WHERE job_name = :jobName AND owner = :owner AND fencing_token = :fencingToken";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> tryAcquire(String jobName, String owner, long ttlSeconds) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("owner", owner)
+                .addValue("ttlSeconds", (double) ttlSeconds);
+        List<Long> tokens = jdbcTemplate.queryForList(ACQUIRE_SQL, parameters, Long.class);
+        return tokens.stream().findFirst();
+    }
+
+    @Override
+    public boolean isCurrent(String jobName, long fencingToken) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("fencingToken", fencingToken);
+        Long count = jdbcTemplate.queryForObject(IS_CURRENT_SQL, parameters, Long.class);
+        return count != null && count > 0;
+    }
+
+    @Override
+    public void release(String jobName, String owner, long fencingToken) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("owner", owner)
+                .addValue("fencingToken", fencingToken);
+        jdbcTemplate.update(RELEASE_SQL, parameters);
+    }
+}
@@ -0,0 +1,26 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.dto.alert.PriceAlertThreshold;
+import com.stockpicks.backend.entity.PriceAlert;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PriceAlertRepository extends JpaRepository<PriceAlert, Long>, PriceAlertRepositoryCustom {
+    String THRESHOLD_SELECT = "SELECT new com.stockpicks.backend.dto.alert.PriceAlertThreshold(a.id, a.symbol, a.direction, a.targetPrice) ";
+
+    List<PriceAlert> findByUserIdOrderByCreatedAtDesc(Long userId);
+    Optional<PriceAlert> findByIdAndUserId(Long id, Long userId);
+    long countByUserIdAndIsActiveTrue(Long userId);
+    
+    @Query(THRESHOLD_SELECT + "FROM PriceAlert a WHERE a.isActive = true")
+    List<PriceAlertThreshold> findActiveThresholds();
+    
+    @Query(THRESHOLD_SELECT + "FROM PriceAlert a WHERE a.isActive = true AND a.symbol = :symbol")
+    List<PriceAlertThreshold> findActiveThresholdsBySymbol(@Param("symbol") String symbol);
+}
@@ -0,0 +1,20 @@
+package com.stockpicks.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface PriceAlertRepositoryCustom {
+
+    /**
+     * Deactivates those of the given alerts whose stored threshold the price has reached, and
+     * records the trigger price and time, in one statement. The threshold is checked here
+     * rather than trusted from the caller's index, which may predate an edit made elsewhere.
+     * Alerts that were already triggered are left alone, so each alert fires at most once
+     * even when several instances evaluate the same quote.
+     *
+     * @return ids of the alerts this call triggered
+     */
+    List<Long> triggerAlerts(Collection<Long> alertIds, BigDecimal price, LocalDateTime triggeredAt);
+}
@@ -0,0 +1,35 @@
+package com.stockpicks.backend.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public class PriceAlertRepositoryImpl implements PriceAlertRepositoryCustom {
+
+    private static final String TRIGGER_ALERTS_SQL =
+            "UPDATE price_alerts SET is_active = false, triggered_at = :triggeredAt, triggered_price = :price, updated_at = :triggeredAt "
+            + "WHERE id IN (:ids) AND is_active "
+            + "AND ((direction = 'ABOVE' AND target_price <= :price) OR (direction = 'BELOW' AND target_price >= :price)) "
+            + "RETURNING id";
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> triggerAlerts(Collection<Long> alertIds, BigDecimal price, LocalDateTime triggeredAt) {
+        if (alertIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", alertIds)
+                .addValue("price", price, Types.NUMERIC)
+                .addValue("triggeredAt", triggeredAt, Types.TIMESTAMP);
+        return jdbcTemplate.queryForList(TRIGGER_ALERTS_SQL, parameters, Long.class);
+    }
+}
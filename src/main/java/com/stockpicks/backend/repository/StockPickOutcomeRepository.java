@@ -0,0 +1,12 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.entity.StockPickOutcome;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface StockPickOutcomeRepository extends JpaRepository<StockPickOutcome, Long> {
+    Optional<StockPickOutcome> findByPickId(Long pickId);
+}
@@ -1,29 +1,85 @@
 package com.stockpicks.backend.repository;
 
+import com.stockpicks.backend.dto.stockpick.StockPickKey;
+import com.stockpicks.backend.dto.stockpick.StockPickSearchResult;
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
 import com.stockpicks.backend.entity.StockPick;
 import com.stockpicks.backend.enums.PickType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface StockPickRepository extends JpaRepository<StockPick, Long> {
-    List<StockPick> findByPickType(PickType pickType);
-    List<StockPick> findBySymbol(String symbol);
-    List<StockPick> findByOrderByPickDateDesc();
+public interface StockPickRepository extends JpaRepository<StockPick, Long>, StockPickRepositoryCustom {
+    // Listing queries select summaries only, never the commentary TEXT column
+    String SUMMARY_SELECT = "SELECT new com.stockpicks.backend.dto.stockpick.StockPickSummary("
+            + "s.id, s.symbol, s.companyName, s.pickType, s.entryPrice, s.targetPrice, s.stopLoss, s.currentPrice, s.pickDate, s.isActive) ";
+
+    String EXPORT_FETCH_SIZE = "500";
+
+    String SEARCH_QUERY = "(websearch_to_tsquery('english', :query) || websearch_to_tsquery('simple', :query))";
+
+    @Query(SUMMARY_SELECT + "FROM StockPick s ORDER BY s.pickDate DESC, s.id DESC")
+    List<StockPickSummary> findAllSummaries();
     
-    @Query("SELECT s FROM StockPick s ORDER BY s.pickDate DESC LIMIT :limit")
-    List<StockPick> findTopByOrderByPickDateDesc(@Param("limit") int limit);
+    @Query("SELECT MAX(s.updatedAt) FROM StockPick s")
+    LocalDateTime findLatestUpdatedAt();
+    
+    // Forward-only cursor for exports; rows are fetched from Postgres in chunks of EXPORT_FETCH_SIZE
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM StockPick s ORDER BY s.pickDate DESC, s.id DESC")
+    Stream<StockPick> streamAllForExport();
+    
+    @Query("SELECT new com.stockpicks.backend.dto.stockpick.StockPickKey(s.symbol, s.pickType, s.pickDay) FROM StockPick s "
+            + "WHERE s.pickDay >= :fromDay AND s.pickDay <= :toDay")
+    List<StockPickKey> findKeysByPickDayBetween(@Param("fromDay") LocalDate fromDay, @Param("toDay") LocalDate toDay);
     
     boolean existsBySymbolAndPickDateAndPickType(String symbol, LocalDateTime pickDate, PickType pickType);
     
-    @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM StockPick s WHERE s.symbol = :symbol AND s.pickType = :pickType AND DATE(s.pickDate) = DATE(:pickDate)")
-    boolean existsBySymbolAndPickTypeAndPickDateOnly(@Param("symbol") String symbol, @Param("pickType") PickType pickType, @Param("pickDate") LocalDateTime pickDate);
+    /**
+     * Ranked full-text search over the search_vector column (symbol, company name and
+     * commentary). Matches are ranked and paged in the inner query so that snippets are
+     * only highlighted for the rows actually returned. The english query is OR-ed with a
+     * 'simple' one because symbols are indexed unstemmed: tickers that are English stop
+     * words (A, ON, IT, ALL) or that stem differently (ADS) would otherwise never match.
+     * Commentary is HTML-escaped before highlighting, so the snippet is safe HTML whose
+     * only markup is the &lt;mark&gt; tags.
+     */
+    @Query(value = "SELECT s.id AS \"id\", s.symbol AS \"symbol\", s.company_name AS \"companyName\", s.pick_type AS \"pickType\", "
+            + "s.entry_price AS \"entryPrice\", s.target_price AS \"targetPrice\", s.current_price AS \"currentPrice\", "
+            + "s.pick_date AS \"pickDate\", ranked.rank AS \"rank\", "
+            + "ts_headline('english', replace(replace(replace(coalesce(s.commentary, ''), '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), q, "
+            + "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=25, MinWords=10') AS \"snippet\" "
+            + "FROM (SELECT p.id, p.pick_date, ts_rank_cd(p.search_vector, pq) AS rank "
+            + "      FROM stock_picks p, " + SEARCH_QUERY + " pq "
+            + "      WHERE p.search_vector @@ pq "
+            + "      ORDER BY rank DESC, p.pick_date DESC, p.id DESC "
+            + "      LIMIT :limit OFFSET :offset) ranked "
+            + "JOIN stock_picks s ON s.id = ranked.id "
+            + "CROSS JOIN " + SEARCH_QUERY + " q "
+            + "ORDER BY ranked.rank DESC, ranked.pick_date DESC, s.id DESC",
+            nativeQuery = true)
+    List<StockPickSearchResult> search(@Param("query") String query, @Param("limit") int limit, @Param("offset") int offset);
+    
+    // stock_picks is partitioned on pick_day; the redundant pick_day bounds let Postgres prune partitions
+    @Query(SUMMARY_SELECT + "FROM StockPick s WHERE s.pickDay >= :startDay AND s.pickDay <= :endDay "
+            + "AND s.pickDate >= :startDate AND s.pickDate <= :endDate ORDER BY s.pickDate DESC, s.id DESC")
+    List<StockPickSummary> findSummariesByPickDateBetween(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate,
+                                                          @Param("startDay") LocalDate startDay, @Param("endDay") LocalDate endDay);
     
-    @Query("SELECT s FROM StockPick s WHERE s.pickDate >= :startDate AND s.pickDate <= :endDate ORDER BY s.pickDate DESC")
-    List<StockPick> findByPickDateBetweenOrderByPickDateDesc(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+    default List<StockPickSummary> findByPickDateBetweenOrderByPickDateDesc(LocalDateTime startDate, LocalDateTime endDate) {
+        return findSummariesByPickDateBetween(startDate, endDate, startDate.toLocalDate(), endDate.toLocalDate());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.dto.stockpick.StockPickFilter;
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.entity.StockPick;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StockPickRepositoryCustom {
+
+    /**
+     * Inserts the pick unless one with the same symbol, pick type and pick day already
+     * exists. The check and the insert are a single statement, so concurrent syncs
+     * cannot both insert the same pick.
+     *
+     * @return the generated id, or empty if the pick already existed
+     */
+    Optional<Long> insertIfAbsent(StockPick stockPick);
+
+    /**
+     * Summaries matching every set criterion of the filter, newest first, starting after the
+     * keyset position (afterPickDate, afterId). Pass null for both to read the first page.
+     */
+    List<StockPickSummary> findSummaries(StockPickFilter filter, LocalDateTime afterPickDate, Long afterId, int limit);
+
+    /**
+     * Marks the given picks inactive in one statement, skipping any that are already closed.
+     *
+     * @return ids of the picks this call closed
+     */
+    List<Long> closeActivePicks(Collection<Long> pickIds, LocalDateTime closedAt);
+
+    /**
+     * Applies the columns maintained in the Google Sheet (company name, entry, current and
+     * target price, commentary) to existing picks as one JDBC batch, matched on id.
+     *
+     * @return ids of the picks that still existed and were updated
+     */
+    List<Long> updateFromSheet(List<StockPick> stockPicks);
+}
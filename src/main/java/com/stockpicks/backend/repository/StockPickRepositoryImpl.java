@@ -0,0 +1,167 @@
+package com.stockpicks.backend.repository;
+
+import com.stockpicks.backend.dto.stockpick.StockPickFilter;
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.entity.StockPick;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public class StockPickRepositoryImpl implements StockPickRepositoryCustom {
+
+    private static final String INSERT_IF_ABSENT_SQL =
+            "INSERT INTO stock_picks (symbol, company_name, pick_type, entry_price, target_price, stop_loss, commentary, "
+            + "pick_date, pick_day, created_at, updated_at, is_active, current_price) "
+            + "VALUES (:symbol, :companyName, :pickType, :entryPrice, :targetPrice, :stopLoss, :commentary, "
+            + ":pickDate, :pickDay, :createdAt, :updatedAt, :isActive, :currentPrice) "
+            + "ON CONFLICT (symbol, pick_type, pick_day) DO NOTHING "
+            + "RETURNING id";
+
+    private static final String CLOSE_ACTIVE_PICKS_SQL =
+            "UPDATE stock_picks SET is_active = false, updated_at = :closedAt WHERE id IN (:ids) AND is_active RETURNING id";
+
+    // pick_day is the partition key, so matching on it lets each update touch a single partition
+    private static final String UPDATE_FROM_SHEET_SQL =
+            "UPDATE stock_picks SET company_name = :companyName, entry_price = :entryPrice, commentary = :commentary, "
+            + "current_price = :currentPrice, target_price = :targetPrice, updated_at = :updatedAt "
+            + "WHERE id = :id AND pick_day = :pickDay";
+
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Long> insertIfAbsent(StockPick stockPick) {
+        List<Long> ids = jdbcTemplate.queryForList(INSERT_IF_ABSENT_SQL, toParameters(stockPick), Long.class);
+        return ids.stream().findFirst();
+    }
+
+    @Override
+    public List<Long> closeActivePicks(Collection<Long> pickIds, LocalDateTime closedAt) {
+        if (pickIds.isEmpty()) {
+            return List.of();
+        }
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", pickIds)
+                .addValue("closedAt", closedAt, Types.TIMESTAMP);
+        return jdbcTemplate.queryForList(CLOSE_ACTIVE_PICKS_SQL, parameters, Long.class);
+    }
+
+    @Override
+    public List<Long> updateFromSheet(List<StockPick> stockPicks) {
+        if (stockPicks.isEmpty()) {
+            return List.of();
+        }
+        SqlParameterSource[] batch = stockPicks.stream()
+                .map(stockPick -> toParameters(stockPick).addValue("id", stockPick.getId(), Types.BIGINT))
+                .toArray(SqlParameterSource[]::new);
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_FROM_SHEET_SQL, batch);
+        List<Long> updatedIds = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                updatedIds.add(stockPicks.get(i).getId());
+            }
+        }
+        return updatedIds;
+    }
+
+    @Override
+    public List<StockPickSummary> findSummaries(StockPickFilter filter, LocalDateTime afterPickDate, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StockPickSummary> query = cb.createQuery(StockPickSummary.class);
+        Root<StockPick> pick = query.from(StockPick.class);
+        Path<LocalDateTime> pickDate = pick.get("pickDate");
+        Path<Long> id = pick.get("id");
+        // Date bounds are repeated on pick_day, the partition key, so Postgres can prune partitions
+        Path<LocalDate> pickDay = pick.get("pickDay");
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getPickTypes() != null && !filter.getPickTypes().isEmpty()) {
+            predicates.add(pick.get("pickType").in(filter.getPickTypes()));
+        }
+        if (filter.getSymbols() != null && !filter.getSymbols().isEmpty()) {
+            predicates.add(pick.get("symbol").in(filter.getSymbols()));
+        }
+        if (filter.getStartDate() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(pickDay, filter.getStartDate().toLocalDate()));
+            predicates.add(cb.greaterThanOrEqualTo(pickDate, filter.getStartDate()));
+        }
+        if (filter.getEndDate() != null) {
+            predicates.add(cb.lessThanOrEqualTo(pickDay, filter.getEndDate().toLocalDate()));
+            predicates.add(cb.lessThanOrEqualTo(pickDate, filter.getEndDate()));
+        }
+        if (filter.getIsActive() != null) {
+            // Rendered as a bare boolean column so the planner can use the partial index on active picks
+            Expression<Boolean> isActive = pick.get("isActive");
+            predicates.add(filter.getIsActive() ? cb.isTrue(isActive) : cb.isFalse(isActive));
+        }
+        if (filter.getMinReturn() != null || filter.getMaxReturn() != null) {
+            // (current - entry) * 100 compared against return * entry, avoiding a division per row
+            Expression<BigDecimal> entryPrice = pick.get("entryPrice");
+            Expression<BigDecimal> currentPrice = pick.get("currentPrice");
+            Expression<BigDecimal> gain = cb.prod(cb.diff(currentPrice, entryPrice), ONE_HUNDRED);
+            predicates.add(cb.isNotNull(currentPrice));
+            predicates.add(cb.gt(entryPrice, BigDecimal.ZERO));
+            if (filter.getMinReturn() != null) {
+                predicates.add(cb.ge(gain, cb.prod(entryPrice, filter.getMinReturn())));
+            }
+            if (filter.getMaxReturn() != null) {
+                predicates.add(cb.le(gain, cb.prod(entryPrice, filter.getMaxReturn())));
+            }
+        }
+        if (afterPickDate != null && afterId != null) {
+            predicates.add(cb.lessThanOrEqualTo(pickDay, afterPickDate.toLocalDate()));
+            predicates.add(cb.or(
+                    cb.lessThan(pickDate, afterPickDate),
+                    cb.and(cb.equal(pickDate, afterPickDate), cb.lessThan(id, afterId))));
+        }
+
+        query.select(cb.construct(StockPickSummary.class,
+                        id, pick.get("symbol"), pick.get("companyName"), pick.get("pickType"), pick.get("entryPrice"),
+                        pick.get("targetPrice"), pick.get("stopLoss"), pick.get("currentPrice"), pickDate, pick.get("isActive")))
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(cb.desc(pickDate), cb.desc(id));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private MapSqlParameterSource toParameters(StockPick stockPick) {
+        LocalDateTime now = LocalDateTime.now();
+        return new MapSqlParameterSource()
+                .addValue("symbol", stockPick.getSymbol(), Types.VARCHAR)
+                .addValue("companyName", stockPick.getCompanyName(), Types.VARCHAR)
+                .addValue("pickType", stockPick.getPickType() != null ? stockPick.getPickType().name() : null, Types.VARCHAR)
+                .addValue("entryPrice", stockPick.getEntryPrice(), Types.NUMERIC)
+                .addValue("targetPrice", stockPick.getTargetPrice(), Types.NUMERIC)
+                .addValue("stopLoss", stockPick.getStopLoss(), Types.NUMERIC)
+                .addValue("commentary", stockPick.getCommentary(), Types.VARCHAR)
+                .addValue("pickDate", stockPick.getPickDate(), Types.TIMESTAMP)
+                .addValue("pickDay", stockPick.getPickDate().toLocalDate(), Types.DATE)
+                .addValue("createdAt", stockPick.getCreatedAt() != null ? stockPick.getCreatedAt() : now, Types.TIMESTAMP)
+                .addValue("updatedAt", stockPick.getUpdatedAt() != null ? stockPick.getUpdatedAt() : now, Types.TIMESTAMP)
+                .addValue("isActive", stockPick.getIsActive() != null ? stockPick.getIsActive() : Boolean.TRUE, Types.BOOLEAN)
+                .addValue("currentPrice", stockPick.getCurrentPrice(), Types.NUMERIC);
+    }
+}
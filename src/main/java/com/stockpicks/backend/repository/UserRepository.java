@@ -1,13 +1,20 @@
 package com.stockpicks.backend.repository;
 
 import com.stockpicks.backend.entity.User;
+import com.stockpicks.backend.enums.SubscriptionStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
+    
+    @Query("SELECT u FROM User u WHERE u.id IN (SELECT us.userId FROM UserSubscription us WHERE us.status = :status)")
+    List<User> findBySubscriptionStatus(@Param("status") SubscriptionStatus status);
 }
\ No newline at end of file
@@ -0,0 +1,348 @@
+package com.stockpicks.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.stockpicks.backend.dto.backtest.BacktestRequest;
+import com.stockpicks.backend.dto.backtest.BacktestResult;
+import com.stockpicks.backend.dto.backtest.DailyCandle;
+import com.stockpicks.backend.dto.backtest.EquityPoint;
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.enums.PickType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+
+/**
+ * Replays historical picks against daily candles. Picks are grouped by symbol and the
+ * symbols are simulated in parallel on a dedicated fork/join pool, each fetching its
+ * candles once. Every position contributes daily P&L changes that are summed into a
+ * single equity curve.
+ * <p>
+ * Results are cached per pick data version and strategy parameters for
+ * {@code stock-picks.backtest.cache.ttl.minutes}, so they also pick up new candles, and
+ * concurrent requests for the same backtest share one run. A run in which some symbol's
+ * candles could not be fetched is not cached. Anyone may run a backtest, so parameters are
+ * clamped to sane bounds and at most {@code stock-picks.backtest.max-runs-per-minute}
+ * uncached runs start per minute on this instance.
+ */
+@Service
+public class BacktestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BacktestService.class);
+
+    private static final int MAX_CACHED_RESULTS = 32;
+    private static final double DEFAULT_INITIAL_CAPITAL = 100_000;
+    private static final double DEFAULT_STAKE_PER_PICK = 1_000;
+    private static final int MAX_HOLD_DAYS = 365;
+    private static final double MAX_INITIAL_CAPITAL = 1_000_000_000;
+    private static final long RATE_WINDOW_MILLIS = 60_000;
+
+    @Autowired
+    private StockPickReadModel stockPickReadModel;
+
+    @Autowired
+    private YahooFinanceService yahooFinanceService;
+
+    @Value("${stock-picks.backtest.parallelism:8}")
+    private int parallelism;
+
+    @Value("${stock-picks.backtest.cache.ttl.minutes:15}")
+    private long cacheTtlMinutes;
+
+    @Value("${stock-picks.backtest.max-runs-per-minute:20}")
+    private int maxRunsPerMinute;
+
+    private ForkJoinPool pool;
+
+    // Caffeine's frequency-based eviction keeps popular backtests cached through a burst of one-off ones
+    private Cache<String, CompletableFuture<BacktestResult>> results;
+
+    private long rateWindowStart;
+    private int runsInRateWindow;
+
+    @PostConstruct
+    void startPool() {
+        pool = new ForkJoinPool(parallelism);
+        results = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .maximumSize(MAX_CACHED_RESULTS)
+                .build();
+    }
+
+    @PreDestroy
+    void stopPool() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Runs the backtest, or returns the cached result. Throws IllegalArgumentException for
+     * invalid parameters and RejectedExecutionException when too many uncached backtests
+     * have started in the last minute.
+     */
+    public BacktestResult runBacktest(BacktestRequest request) {
+        StockPickReadModel.Snapshot snapshot = stockPickReadModel.current();
+        BacktestRequest parameters = normalize(request, snapshot);
+        String key = snapshot.getVersion() + ":" + parameters;
+
+        CompletableFuture<BacktestResult> run = results.get(key, k -> {
+            acquireRun();
+            return CompletableFuture.supplyAsync(() -> simulate(parameters, snapshot), pool);
+        });
+        try {
+            BacktestResult result = run.join();
+            if (result.getSymbolsWithoutCandles() > 0) {
+                // Retried on the next request rather than served until the entry expires
+                results.asMap().remove(key, run);
+            }
+            return result;
+        } catch (CompletionException e) {
+            results.asMap().remove(key, run);
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            throw new IllegalStateException("Backtest failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    private synchronized void acquireRun() {
+        long now = System.currentTimeMillis();
+        if (now - rateWindowStart >= RATE_WINDOW_MILLIS) {
+            rateWindowStart = now;
+            runsInRateWindow = 0;
+        }
+        if (runsInRateWindow >= maxRunsPerMinute) {
+            throw new RejectedExecutionException("Too many new backtests started in the last minute");
+        }
+        runsInRateWindow++;
+    }
+
+    // Validates, clamps and canonicalizes the parameters, so equivalent strategies share a cache entry
+    private BacktestRequest normalize(BacktestRequest request, StockPickReadModel.Snapshot snapshot) {
+        if (request.getHoldDays() < 0) {
+            throw new IllegalArgumentException("holdDays must not be negative");
+        }
+        if (request.getFromDate() != null && request.getToDate() != null && request.getFromDate().isAfter(request.getToDate())) {
+            throw new IllegalArgumentException("fromDate must not be after toDate");
+        }
+        if (request.getInitialCapital() < 0 || request.getStakePerPick() < 0) {
+            throw new IllegalArgumentException("initialCapital and stakePerPick must not be negative");
+        }
+        Set<PickType> types = request.getPickTypes() == null || request.getPickTypes().isEmpty()
+                ? EnumSet.of(PickType.BUY)
+                : EnumSet.copyOf(request.getPickTypes());
+
+        // Dates outside the picks select the same picks as no date at all
+        List<StockPickSummary> picks = snapshot.all();
+        LocalDate fromDate = request.getFromDate();
+        LocalDate toDate = request.getToDate();
+        if (!picks.isEmpty()) {
+            LocalDate newest = picks.get(0).getPickDate().toLocalDate();
+            LocalDate oldest = picks.get(picks.size() - 1).getPickDate().toLocalDate();
+            if (fromDate != null && !fromDate.isAfter(oldest)) {
+                fromDate = null;
+            }
+            if (toDate != null && !toDate.isBefore(newest)) {
+                toDate = null;
+            }
+        }
+
+        double initialCapital = request.getInitialCapital() > 0
+                ? Math.min(Math.rint(request.getInitialCapital()), MAX_INITIAL_CAPITAL)
+                : DEFAULT_INITIAL_CAPITAL;
+        double stakePerPick = request.getStakePerPick() > 0
+                ? Math.min(Math.rint(request.getStakePerPick()), initialCapital)
+                : Math.min(DEFAULT_STAKE_PER_PICK, initialCapital);
+        return new BacktestRequest(List.copyOf(types), fromDate, toDate, request.isExitOnStopOrTarget(),
+                Math.min(request.getHoldDays(), MAX_HOLD_DAYS), Math.max(initialCapital, 1), Math.max(stakePerPick, 1));
+    }
+
+    private BacktestResult simulate(BacktestRequest parameters, StockPickReadModel.Snapshot snapshot) {
+        long started = System.currentTimeMillis();
+        Map<String, List<StockPickSummary>> picksBySymbol = snapshot.all().stream()
+                .filter(pick -> parameters.getPickTypes().contains(pick.getPickType()))
+                .filter(pick -> parameters.getFromDate() == null || !pick.getPickDate().toLocalDate().isBefore(parameters.getFromDate()))
+                .filter(pick -> parameters.getToDate() == null || !pick.getPickDate().toLocalDate().isAfter(parameters.getToDate()))
+                .collect(Collectors.groupingBy(StockPickSummary::getSymbol));
+
+        // Runs on a pool worker, so the parallel stream forks onto the same pool
+        SymbolResult total = picksBySymbol.entrySet().parallelStream()
+                .map(entry -> simulateSymbol(entry.getKey(), entry.getValue(), parameters))
+                .reduce(new SymbolResult(), SymbolResult::merge);
+
+        BacktestResult result = summarize(parameters, total, snapshot.getVersion());
+        logger.info("Backtest over {} symbols and {} picks finished in {} ms",
+                picksBySymbol.size(), total.tested + total.skipped, System.currentTimeMillis() - started);
+        return result;
+    }
+
+    private SymbolResult simulateSymbol(String symbol, List<StockPickSummary> picks, BacktestRequest parameters) {
+        SymbolResult result = new SymbolResult();
+        LocalDate earliest = picks.stream().map(pick -> pick.getPickDate().toLocalDate()).min(LocalDate::compareTo).orElseThrow();
+        List<DailyCandle> candles = yahooFinanceService.getDailyCandles(symbol, rangeSince(earliest));
+        if (candles.isEmpty()) {
+            // Fetch failures come back empty; the picks are skipped and the result is not cached
+            result.symbolsWithoutCandles++;
+        }
+        for (StockPickSummary pick : picks) {
+            simulatePick(pick, candles, parameters, result);
+        }
+        return result;
+    }
+
+    private void simulatePick(StockPickSummary pick, List<DailyCandle> candles, BacktestRequest parameters, SymbolResult result) {
+        int start = firstCandleOnOrAfter(candles, pick.getPickDate().toLocalDate());
+        if (pick.getEntryPrice() == null || pick.getEntryPrice().signum() <= 0 || start == candles.size()) {
+            result.skipped++;
+            return;
+        }
+
+        double entry = pick.getEntryPrice().doubleValue();
+        double shares = parameters.getStakePerPick() / entry;
+        boolean isShort = pick.getPickType() == PickType.SELL;
+        Double stop = pick.getStopLoss() != null ? pick.getStopLoss().doubleValue() : null;
+        Double target = pick.getTargetPrice() != null ? pick.getTargetPrice().doubleValue() : null;
+
+        double previousPnl = 0;
+        for (int i = start; i < candles.size(); i++) {
+            DailyCandle candle = candles.get(i);
+            Double exit = null;
+            if (parameters.isExitOnStopOrTarget()) {
+                exit = stopOrTargetFill(candle, stop, target, isShort, i > start);
+            }
+            if (exit == null && parameters.getHoldDays() > 0 && i - start + 1 >= parameters.getHoldDays()) {
+                exit = candle.getClose();
+            }
+
+            double mark = exit != null ? exit : candle.getClose();
+            double pnl = (isShort ? entry - mark : mark - entry) * shares;
+            result.pnlChanges.merge(candle.getDate(), pnl - previousPnl, Double::sum);
+            previousPnl = pnl;
+            if (exit != null) {
+                break;
+            }
+        }
+
+        result.tested++;
+        if (previousPnl > 0) {
+            result.winning++;
+        }
+    }
+
+    /**
+     * Fill price if the candle reaches the stop or target, else null. The stop is checked
+     * first because the order within a day is unknown. After the entry day a gap through a
+     * level fills at the open rather than at the level.
+     */
+    private Double stopOrTargetFill(DailyCandle candle, Double stop, Double target, boolean isShort, boolean canGap) {
+        double open = candle.getOpen();
+        if (stop != null && (isShort ? candle.getHigh() >= stop : candle.getLow() <= stop)) {
+            return canGap ? (isShort ? Math.max(stop, open) : Math.min(stop, open)) : stop;
+        }
+        if (target != null && (isShort ? candle.getLow() <= target : candle.getHigh() >= target)) {
+            return canGap ? (isShort ? Math.min(target, open) : Math.max(target, open)) : target;
+        }
+        return null;
+    }
+
+    private BacktestResult summarize(BacktestRequest parameters, SymbolResult total, long dataVersion) {
+        TreeMap<LocalDate, Double> changes = new TreeMap<>(total.pnlChanges);
+        List<EquityPoint> curve = new ArrayList<>(changes.size());
+        double equity = parameters.getInitialCapital();
+        double peak = equity;
+        double maxDrawdown = 0;
+        for (Map.Entry<LocalDate, Double> change : changes.entrySet()) {
+            equity += change.getValue();
+            peak = Math.max(peak, equity);
+            double drawdown = peak > 0 ? (peak - equity) / peak * 100 : 0;
+            maxDrawdown = Math.max(maxDrawdown, drawdown);
+            curve.add(new EquityPoint(change.getKey(), round(equity), round(drawdown)));
+        }
+
+        LocalDate startDate = changes.isEmpty() ? null : changes.firstKey();
+        LocalDate endDate = changes.isEmpty() ? null : changes.lastKey();
+        double totalReturn = (equity / parameters.getInitialCapital() - 1) * 100;
+        double cagr = 0;
+        if (startDate != null && equity > 0) {
+            double years = ChronoUnit.DAYS.between(startDate, endDate) / 365.25;
+            if (years > 0) {
+                cagr = (Math.pow(equity / parameters.getInitialCapital(), 1 / years) - 1) * 100;
+            }
+        }
+        double winRate = total.tested > 0 ? 100.0 * total.winning / total.tested : 0;
+
+        return new BacktestResult(parameters, total.tested, total.skipped, total.symbolsWithoutCandles, total.winning, round(winRate),
+                startDate, endDate, round(equity), round(totalReturn), round(cagr), round(maxDrawdown),
+                curve, dataVersion, LocalDateTime.now());
+    }
+
+    // Smallest Yahoo range that reaches back to the given day
+    private String rangeSince(LocalDate day) {
+        long years = ChronoUnit.YEARS.between(day, LocalDate.now()) + 1;
+        if (years <= 1) {
+            return "1y";
+        } else if (years <= 2) {
+            return "2y";
+        } else if (years <= 5) {
+            return "5y";
+        } else if (years <= 10) {
+            return "10y";
+        }
+        return "max";
+    }
+
+    private int firstCandleOnOrAfter(List<DailyCandle> candles, LocalDate day) {
+        int low = 0;
+        int high = candles.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (candles.get(mid).getDate().isBefore(day)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class SymbolResult {
+        private final Map<LocalDate, Double> pnlChanges = new HashMap<>();
+        private int tested;
+        private int skipped;
+        private int symbolsWithoutCandles;
+        private int winning;
+
+        SymbolResult merge(SymbolResult other) {
+            SymbolResult merged = new SymbolResult();
+            merged.pnlChanges.putAll(pnlChanges);
+            other.pnlChanges.forEach((date, change) -> merged.pnlChanges.merge(date, change, Double::sum));
+            merged.tested = tested + other.tested;
+            merged.skipped = skipped + other.skipped;
+            merged.symbolsWithoutCandles = symbolsWithoutCandles + other.symbolsWithoutCandles;
+            merged.winning = winning + other.winning;
+            return merged;
+        }
+    }
+}
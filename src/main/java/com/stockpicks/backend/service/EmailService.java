@@ -1,9 +1,13 @@
 package com.stockpicks.backend.service;
 
+import com.stockpicks.backend.entity.PriceAlert;
 import com.stockpicks.backend.entity.StockPick;
+import com.stockpicks.backend.entity.StockPickOutcome;
 import com.stockpicks.backend.entity.User;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
@@ -17,6 +21,8 @@ import java.util.List;
 @Service
 public class EmailService {
 
+    private static final Logger logger = LoggerFactory.getLogger(EmailService.class);
+
     @Autowired
     private JavaMailSender mailSender;
 
@@ -93,12 +99,64 @@ public class EmailService {
                 helper.setText(htmlContent, true);
 
                 mailSender.send(message);
-            } catch (MessagingException e) {
-                System.err.println("Failed to send stock pick notification to " + user.getEmail() + ": " + e.getMessage());
+            } catch (MessagingException | RuntimeException e) {
+                // One bad recipient must not stop the rest
+                logger.error("Failed to send stock pick notification to {}: {}", user.getEmail(), e.getMessage());
+            }
+        }
+    }
+
+    public void sendPickOutcomeNotification(List<User> subscribers, List<StockPickOutcome> outcomes) {
+        for (User user : subscribers) {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+                helper.setFrom(fromEmail);
+                helper.setTo(user.getEmail());
+                helper.setSubject("Stock Pick Update: Targets and Stops Hit");
+
+                Context context = new Context();
+                context.setVariable("firstName", user.getFirstName());
+                context.setVariable("outcomes", outcomes);
+                context.setVariable("baseUrl", baseUrl);
+
+                String htmlContent = templateEngine.process("pick-outcomes", context);
+                helper.setText(htmlContent, true);
+
+                mailSender.send(message);
+            } catch (MessagingException | RuntimeException e) {
+                // One bad recipient must not stop the rest
+                logger.error("Failed to send pick outcome notification to {}: {}", user.getEmail(), e.getMessage());
             }
         }
     }
 
+    public void sendPriceAlertNotification(User user, List<PriceAlert> alerts) {
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+            helper.setFrom(fromEmail);
+            helper.setTo(user.getEmail());
+            helper.setSubject(alerts.size() == 1
+                    ? "Price Alert: " + alerts.get(0).getSymbol() + " reached " + alerts.get(0).getTargetPrice()
+                    : "Price Alerts: " + alerts.size() + " alerts triggered");
+
+            Context context = new Context();
+            context.setVariable("firstName", user.getFirstName());
+            context.setVariable("alerts", alerts);
+            context.setVariable("baseUrl", baseUrl);
+
+            String htmlContent = templateEngine.process("price-alert", context);
+            helper.setText(htmlContent, true);
+
+            mailSender.send(message);
+        } catch (MessagingException e) {
+            throw new RuntimeException("Failed to send price alert notification", e);
+        }
+    }
+
     public void sendSubscriptionExpiryNotification(User user, int daysUntilExpiry) {
         try {
             MimeMessage message = mailSender.createMimeMessage();
@@ -0,0 +1,91 @@
+package com.stockpicks.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockpicks.backend.dto.stockpick.StockPickPageResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Serialized JSON bodies of the free-tier pick responses. Anonymous and unsubscribed
+ * callers all receive the same few picks, so each response is serialized once per read
+ * model version and then written out as bytes. An entry is replaced the first time it is
+ * requested after the pick data changes.
+ */
+@Service
+public class FreeTierResponseCache {
+
+    public static final int FREE_TIER_PICK_COUNT = 5;
+    public static final int MAX_RECENT_LIMIT = 50;
+
+    @Autowired
+    private StockPickReadModel stockPickReadModel;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Keyed by variant and limit; limits are clamped, so the map stays small
+    private final ConcurrentMap<String, CachedResponse> responses = new ConcurrentHashMap<>();
+
+    /** Body of GET /api/stock-picks for callers without a subscription. */
+    public CachedResponse freeListing() {
+        return get("free", FREE_TIER_PICK_COUNT,
+                snapshot -> new StockPickPageResponse(snapshot.recent(FREE_TIER_PICK_COUNT), null, false));
+    }
+
+    /** Body of GET /api/stock-picks/recent; the limit is clamped to 1..MAX_RECENT_LIMIT. */
+    public CachedResponse recent(int limit) {
+        int clampedLimit = Math.min(Math.max(limit, 1), MAX_RECENT_LIMIT);
+        return get("recent", clampedLimit, snapshot -> snapshot.recent(clampedLimit));
+    }
+
+    private CachedResponse get(String variant, int limit, Function<StockPickReadModel.Snapshot, Object> body) {
+        StockPickReadModel.Snapshot snapshot = stockPickReadModel.current();
+        String key = variant + ":" + limit;
+        CachedResponse cached = responses.get(key);
+        if (cached != null && cached.getVersion() == snapshot.getVersion()) {
+            return cached;
+        }
+
+        CachedResponse fresh = new CachedResponse(snapshot.getVersion(), snapshot.eTag(variant), serialize(body.apply(snapshot)));
+        // A slower thread must not replace a newer entry with one built from an older snapshot
+        return responses.merge(key, fresh, (existing, candidate) -> existing.getVersion() >= candidate.getVersion() ? existing : candidate);
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Error serializing free-tier stock picks: " + e.getMessage(), e);
+        }
+    }
+
+    public static final class CachedResponse {
+        private final long version;
+        private final String eTag;
+        private final byte[] body;
+
+        CachedResponse(long version, String eTag, byte[] body) {
+            this.version = version;
+            this.eTag = eTag;
+            this.body = body;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        // Shared across requests; callers must not modify it
+        public byte[] getBody() {
+            return body;
+        }
+    }
+}
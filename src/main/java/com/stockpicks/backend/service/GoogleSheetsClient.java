@@ -0,0 +1,129 @@
+package com.stockpicks.backend.service;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.sheets.v4.Sheets;
+import com.google.api.services.sheets.v4.SheetsScopes;
+import com.google.api.services.sheets.v4.model.BatchGetValuesResponse;
+import com.google.api.services.sheets.v4.model.ValueRange;
+import com.google.auth.http.HttpCredentialsAdapter;
+import com.google.auth.oauth2.GoogleCredentials;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Shared, thread-safe Google Sheets client. The HTTP transport (and its trust store), the
+ * service-account credentials and the Sheets client are built once, on first use, and
+ * reused by every sync. The access token is refreshed in the background before it
+ * expires, so a sync normally costs only its Sheets API requests.
+ */
+@Component
+public class GoogleSheetsClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleSheetsClient.class);
+
+    private static final String APPLICATION_NAME = "Stock Picks Application";
+    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
+    private static final List<String> SCOPES = Collections.singletonList(SheetsScopes.SPREADSHEETS_READONLY);
+    private static final String CREDENTIALS_FILE_PATH = "/service-account-key.json";
+
+    @Value("${google.service.account.json:}")
+    private String serviceAccountJson;
+
+    private volatile GoogleCredentials credentials;
+    private volatile Sheets sheets;
+
+    /**
+     * Reads several ranges of one spreadsheet in a single request. The value ranges come
+     * back in the order the ranges were given.
+     */
+    public List<ValueRange> batchGetValues(String spreadsheetId, List<String> ranges) throws IOException, GeneralSecurityException {
+        BatchGetValuesResponse response = sheets().spreadsheets().values()
+                .batchGet(spreadsheetId)
+                .setRanges(ranges)
+                .execute();
+        return response.getValueRanges() != null ? response.getValueRanges() : List.of();
+    }
+
+    /**
+     * Builds the client if needed and makes sure the access token is fresh, so that the
+     * cost of the token exchange shows up separately from the Sheets API requests.
+     */
+    public void authenticate() throws IOException, GeneralSecurityException {
+        sheets();
+        credentials.refreshIfExpired();
+    }
+
+    // Built lazily so the application still starts when credentials are not configured;
+    // a failed build is retried on the next call
+    private Sheets sheets() throws IOException, GeneralSecurityException {
+        Sheets current = sheets;
+        if (current == null) {
+            synchronized (this) {
+                current = sheets;
+                if (current == null) {
+                    NetHttpTransport transport = GoogleNetHttpTransport.newTrustedTransport();
+                    GoogleCredentials loaded = loadCredentials();
+                    current = new Sheets.Builder(transport, JSON_FACTORY, new HttpCredentialsAdapter(loaded))
+                            .setApplicationName(APPLICATION_NAME)
+                            .build();
+                    credentials = loaded;
+                    sheets = current;
+                    logger.info("Google Sheets client initialized");
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Refreshes the access token when it is close to expiry, keeping the token exchange off
+     * the sync path. Does nothing until the client has been used once.
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void refreshAccessToken() {
+        GoogleCredentials current = credentials;
+        if (current == null) {
+            return;
+        }
+        try {
+            current.refreshIfExpired();
+        } catch (IOException e) {
+            logger.warn("Error refreshing Google Sheets access token: {}", e.getMessage());
+        }
+    }
+
+    private GoogleCredentials loadCredentials() throws IOException {
+        // First try to load from environment variable (for production)
+        if (serviceAccountJson != null && !serviceAccountJson.isEmpty()) {
+            logger.info("Loading Google Service Account credentials from environment variable");
+            return GoogleCredentials.fromStream(
+                    new ByteArrayInputStream(serviceAccountJson.getBytes(StandardCharsets.UTF_8))
+            ).createScoped(SCOPES);
+        }
+
+        // Fallback to resource file (for local development)
+        logger.info("Loading Google Service Account credentials from resource file");
+        InputStream in = GoogleSheetsClient.class.getResourceAsStream(CREDENTIALS_FILE_PATH);
+        if (in == null) {
+            throw new FileNotFoundException("Resource not found: " + CREDENTIALS_FILE_PATH + ". Please add your Google Service Account JSON file to src/main/resources/ or set GOOGLE_SERVICE_ACCOUNT_JSON environment variable");
+        }
+        try (in) {
+            return GoogleCredentials.fromStream(in).createScoped(SCOPES);
+        }
+    }
+}
@@ -1,56 +1,98 @@
 package com.stockpicks.backend.service;
 
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.JsonFactory;
-import com.google.api.client.json.gson.GsonFactory;
-import com.google.api.services.sheets.v4.Sheets;
-import com.google.api.services.sheets.v4.SheetsScopes;
 import com.google.api.services.sheets.v4.model.ValueRange;
-import com.google.auth.http.HttpCredentialsAdapter;
-import com.google.auth.oauth2.GoogleCredentials;
+import com.stockpicks.backend.dto.stockpick.StockPickKey;
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.entity.GoogleSheetsRow;
 import com.stockpicks.backend.entity.GoogleSheetsSync;
+import com.stockpicks.backend.entity.GoogleSheetsWatermark;
 import com.stockpicks.backend.entity.StockPick;
-import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.event.StockPicksChangedEvent;
+import com.stockpicks.backend.repository.GoogleSheetsRowRepository;
 import com.stockpicks.backend.repository.GoogleSheetsSyncRepository;
+import com.stockpicks.backend.repository.GoogleSheetsWatermarkRepository;
 import com.stockpicks.backend.repository.StockPickRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.util.Collections;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 @Service
 public class GoogleSheetsService {
 
     private static final Logger logger = LoggerFactory.getLogger(GoogleSheetsService.class);
-    
-    private static final String APPLICATION_NAME = "Stock Picks Application";
-    private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
-    private static final List<String> SCOPES = Collections.singletonList(SheetsScopes.SPREADSHEETS_READONLY);
-    private static final String CREDENTIALS_FILE_PATH = "/service-account-key.json";
+
+    private static final String SYNC_JOB = "google-sheets-sync";
+
+    private static final String STATUS_QUEUED = "QUEUED";
+
+    private static final String STATUS_RUNNING = "RUNNING";
+
+    private static final String STATUS_SUCCESS = "SUCCESS";
+
+    private static final String STATUS_ABANDONED = "ABANDONED";
+
+    private static final List<String> ACTIVE_STATUSES = List.of(STATUS_QUEUED, STATUS_RUNNING);
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+
+    // The claim this instance is running, if any; only this instance's lease renewals can race with it
+    private volatile SyncClaim activeClaim;
 
     @Value("${google.sheets.spreadsheet.id}")
     private String spreadsheetId;
 
     @Value("${google.sheets.range:Sheet1!A:H}")
     private String defaultRange;
+
+    @Value("${google.sheets.sources:}")
+    private String sourcesProperty;
+
+    @Value("${google.sheets.sync.fetch-parallelism:4}")
+    private int fetchParallelism;
+
+    private ExecutorService fetchExecutor;
     
     @Value("${google.sheets.sync.enabled:true}")
     private boolean syncEnabled;
     
+    @Value("${google.sheets.sync.interval.minutes:15}")
+    private long syncIntervalMinutes;
+    
     @Value("${google.sheets.sync.business.hours.enabled:true}")
     private boolean businessHoursEnabled;
     
@@ -60,8 +102,20 @@ public class GoogleSheetsService {
     @Value("${google.sheets.sync.business.hours.end:18}")
     private int businessHoursEnd;
 
-    @Value("${google.service.account.json:}")
-    private String serviceAccountJson;
+    @Value("${google.sheets.sync.full-rescan.interval.minutes:60}")
+    private long fullRescanIntervalMinutes;
+
+    @Value("${google.sheets.sync.deactivate-missing:false}")
+    private boolean deactivateMissing;
+
+    @Value("${google.sheets.sync.max-duration.minutes:30}")
+    private long maxSyncMinutes;
+
+    @Autowired
+    private GoogleSheetsClient googleSheetsClient;
+
+    @Autowired
+    private SheetRowParser sheetRowParser;
 
     @Autowired
     private StockPickRepository stockPickRepository;
@@ -69,73 +123,698 @@ public class GoogleSheetsService {
     @Autowired
     private GoogleSheetsSyncRepository googleSheetsSyncRepository;
 
-    private GoogleCredentials getCredentials() throws IOException {
-        // First try to load from environment variable (for production)
-        if (serviceAccountJson != null && !serviceAccountJson.isEmpty()) {
-            logger.info("Loading Google Service Account credentials from environment variable");
-            return GoogleCredentials.fromStream(
-                    new java.io.ByteArrayInputStream(serviceAccountJson.getBytes())
-            ).createScoped(SCOPES);
+    @Autowired
+    private GoogleSheetsRowRepository googleSheetsRowRepository;
+
+    @Autowired
+    private GoogleSheetsWatermarkRepository googleSheetsWatermarkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Autowired
+    private GoogleSheetsSyncMetrics syncMetrics;
+
+    @PostConstruct
+    public void startFetchExecutor() {
+        fetchExecutor = Executors.newFixedThreadPool(Math.max(1, fetchParallelism), runnable -> {
+            Thread thread = new Thread(runnable, "sheets-fetch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopFetchExecutor() {
+        fetchExecutor.shutdownNow();
+    }
+
+    /**
+     * Claims the cluster-wide sync lease and records a QUEUED run for it, whose id is the
+     * job id clients poll. The lease is held only while a sync runs, on whichever instance
+     * claimed it, so every sync (manual or scheduled) excludes every other. Empty when a
+     * sync is already queued or running here or on another instance.
+     */
+    public synchronized Optional<SyncClaim> claimSync() {
+        if (activeClaim != null) {
+            return Optional.empty();
         }
+        Optional<Long> lease = jobLeaseService.tryAcquire(SYNC_JOB, Duration.ofMinutes(maxSyncMinutes));
+        if (lease.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            // No sync can be running while we hold the lease; runs still marked active lost their instance mid-run
+            abandonStaleRuns();
+            GoogleSheetsSync run = new GoogleSheetsSync();
+            run.setSpreadsheetId(truncate(String.join(",", configuredSources().stream().map(source -> source.spreadsheetId).distinct().toList()), 255));
+            run.setStatus(STATUS_QUEUED);
+            SyncClaim claim = new SyncClaim(googleSheetsSyncRepository.save(run), lease.get());
+            activeClaim = claim;
+            return Optional.of(claim);
+        } catch (RuntimeException e) {
+            jobLeaseService.release(SYNC_JOB, lease.get());
+            throw e;
+        }
+    }
 
-        // Fallback to resource file (for local development)
-        logger.info("Loading Google Service Account credentials from resource file");
-        InputStream in = GoogleSheetsService.class.getResourceAsStream(CREDENTIALS_FILE_PATH);
-        if (in == null) {
-            throw new FileNotFoundException("Resource not found: " + CREDENTIALS_FILE_PATH + ". Please add your Google Service Account JSON file to src/main/resources/ or set GOOGLE_SERVICE_ACCOUNT_JSON environment variable");
+    /** The most recent queued or running sync on any instance, or null. */
+    public GoogleSheetsSync getActiveSync() {
+        return googleSheetsSyncRepository.findTopByStatusInOrderByIdDesc(ACTIVE_STATUSES);
+    }
+
+    public GoogleSheetsSync getSync(Long id) {
+        return googleSheetsSyncRepository.findById(id).orElse(null);
+    }
+
+    /**
+     * Runs a claimed sync: every configured source (spreadsheet and range) is synced into
+     * stock picks. After a source's first full scan only the rows below its stored watermark
+     * are fetched, together with the watermark row itself: if that row is missing or its
+     * content hash no longer matches, rows above it were inserted, removed or re-sorted, and
+     * the source is re-scanned instead. Edits to rows above the watermark are picked up by a
+     * full re-scan every {@code google.sheets.sync.full-rescan.interval.minutes}.
+     * <p>
+     * The fencing token is checked after the sheets have been read and before anything is
+     * written, so a run that outlived its lease (for example after a long GC pause) leaves
+     * the writes to the new holder. The current stage (auth, fetch, parse, dedupe, write) is
+     * stored on the run as it starts, so any instance can report progress. Every run, failed
+     * or not, is recorded with its per-stage timings and row counts; the lease is released
+     * when it ends.
+     *
+     * @return the number of new picks
+     */
+    public int runSync(SyncClaim claim) throws IOException, GeneralSecurityException {
+        GoogleSheetsSync run = claim.run;
+        try {
+            run.setStatus(STATUS_RUNNING);
+            run.setStartedAt(LocalDateTime.now());
+            long runStart = System.nanoTime();
+            Consumer<String> progress = stage -> {
+                run.setStage(stage);
+                saveProgress(run);
+            };
+            saveProgress(run);
+            try {
+                int newPicks = runSync(run, claim.fencingToken, progress);
+                run.setStage(null);
+                finishRun(run, runStart);
+                return newPicks;
+            } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                run.setStage(null);
+                run.setStatus("FAILED");
+                String message = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+                run.setErrorMessage(message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message);
+                finishRun(run, runStart);
+                throw e;
+            }
+        } finally {
+            activeClaim = null;
+            jobLeaseService.release(SYNC_JOB, claim.fencingToken);
         }
-        return GoogleCredentials.fromStream(in).createScoped(SCOPES);
     }
 
-    public int syncStockPicks() throws IOException, GeneralSecurityException {
-        final NetHttpTransport HTTP_TRANSPORT = GoogleNetHttpTransport.newTrustedTransport();
-        
-        GoogleCredentials credentials = getCredentials();
-        
-        Sheets service = new Sheets.Builder(HTTP_TRANSPORT, JSON_FACTORY, 
-                new HttpCredentialsAdapter(credentials))
-                .setApplicationName(APPLICATION_NAME)
-                .build();
+    private void saveProgress(GoogleSheetsSync run) {
+        try {
+            googleSheetsSyncRepository.save(run);
+        } catch (Exception e) {
+            // Progress is informational; the run itself carries on
+            logger.warn("Error recording Google Sheets sync progress: {}", e.getMessage());
+        }
+    }
 
-        GoogleSheetsSync lastSync = googleSheetsSyncRepository.findTopByOrderByLastSyncTimeDesc();
-        String range = lastSync != null ? lastSync.getLastSyncRange() : defaultRange;
+    private void abandonStaleRuns() {
+        List<GoogleSheetsSync> staleRuns = googleSheetsSyncRepository.findByStatusIn(ACTIVE_STATUSES);
+        if (staleRuns.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (GoogleSheetsSync staleRun : staleRuns) {
+            staleRun.setStatus(STATUS_ABANDONED);
+            staleRun.setStage(null);
+            staleRun.setErrorMessage("The instance running this sync stopped before it finished");
+            staleRun.setFinishedAt(now);
+            staleRun.setLastSyncTime(now);
+        }
+        googleSheetsSyncRepository.saveAll(staleRuns);
+        logger.warn("Marked {} unfinished Google Sheets sync runs as abandoned", staleRuns.size());
+    }
 
-        ValueRange response = service.spreadsheets().values()
-                .get(spreadsheetId, range)
-                .execute();
-        List<List<Object>> values = response.getValues();
+    private int runSync(GoogleSheetsSync run, long fencingToken, Consumer<String> progress) throws IOException, GeneralSecurityException {
+        progress.accept("auth");
+        long stageStart = System.nanoTime();
+        googleSheetsClient.authenticate();
+        run.setAuthMs(elapsedMs(stageStart));
+
+        List<SheetSource> sources = configuredSources();
+        Set<String> spreadsheetIds = new LinkedHashSet<>();
+        sources.forEach(source -> spreadsheetIds.add(source.spreadsheetId));
+        Map<String, GoogleSheetsWatermark> watermarks = new HashMap<>();
+        for (GoogleSheetsWatermark watermark : googleSheetsWatermarkRepository.findBySpreadsheetIdIn(spreadsheetIds)) {
+            watermarks.put(sourceKey(watermark.getSpreadsheetId(), watermark.getSheetRange()), watermark);
+        }
 
-        if (values == null || values.isEmpty()) {
-            logger.info("No data found in Google Sheets");
+        progress.accept("fetch");
+        stageStart = System.nanoTime();
+        List<SourceRows> fetched = fetchSources(sources, watermarks);
+        run.setFetchMs(elapsedMs(stageStart));
+
+        int rowsRead = fetched.stream().mapToInt(source -> source.rows.size()).sum();
+        boolean fullScan = fetched.stream().allMatch(source -> source.fullScan);
+        run.setSpreadsheetId(truncate(String.join(",", spreadsheetIds), 255));
+        run.setLastSyncRange(truncate(String.join(",", fetched.stream().map(source -> source.fetchedRange).toList()), 255));
+        run.setRowsProcessed(rowsRead);
+        run.setFullScan(fullScan);
+
+        if (!jobLeaseService.isCurrent(SYNC_JOB, fencingToken)) {
+            logger.warn("Sync lease was lost while reading the sheets; discarding {} rows", rowsRead);
+            run.setStatus(STATUS_ABANDONED);
+            run.setErrorMessage("Sync lease lost before writing");
             return 0;
         }
 
-        int startRow = lastSync != null ? getStartRowFromRange(lastSync.getLastSyncRange()) + 1 : 1;
-        int newPicksCount = 0;
+        SheetChanges changes = applyRows(fetched, run, progress);
+        saveWatermarks(fetched, watermarks);
+
+        run.setProcessedRecords(changes.createdIds.size() + changes.updatedIds.size());
+        run.setStatus(STATUS_SUCCESS);
         
-        for (int i = 0; i < values.size(); i++) {
-            List<Object> row = values.get(i);
-            if (row.size() >= 5) { // Minimum required columns
-                StockPick stockPick = createStockPickFromRow(row, startRow + i);
-                if (stockPick != null && !stockPickRepository.existsBySymbolAndPickTypeAndPickDateOnly(
-                        stockPick.getSymbol(), stockPick.getPickType(), stockPick.getPickDate())) {
-                    stockPickRepository.save(stockPick);
-                    newPicksCount++;
+        if (!changes.createdIds.isEmpty()) {
+            eventPublisher.publishEvent(new StockPicksChangedEvent(StockPicksChangedEvent.ChangeType.CREATED, changes.createdIds));
+        }
+        if (!changes.updatedIds.isEmpty() || !changes.deactivatedIds.isEmpty()) {
+            List<Long> changedIds = new ArrayList<>(changes.updatedIds);
+            changedIds.addAll(changes.deactivatedIds);
+            eventPublisher.publishEvent(new StockPicksChangedEvent(StockPicksChangedEvent.ChangeType.UPDATED, changedIds));
+        }
+        
+        logger.info("Google Sheets {} sync of {} sources completed. Rows read: {}, new picks added: {}, picks updated: {}, picks deactivated: {}",
+                fullScan ? "full" : "incremental", sources.size(), rowsRead, changes.createdIds.size(), changes.updatedIds.size(),
+                changes.deactivatedIds.size());
+        return changes.createdIds.size();
+    }
+
+    private void finishRun(GoogleSheetsSync run, long runStart) {
+        long durationMs = elapsedMs(runStart);
+        LocalDateTime finishedAt = LocalDateTime.now();
+        run.setFinishedAt(finishedAt);
+        run.setLastSyncTime(finishedAt);
+        run.setDurationMs(durationMs);
+        if (run.getSpreadsheetId() == null) {
+            run.setSpreadsheetId(truncate(spreadsheetId, 255));
+        }
+        if (run.getRowsProcessed() != null && durationMs > 0) {
+            run.setRowsPerSecond(run.getRowsProcessed() * 1000.0 / durationMs);
+        }
+        try {
+            googleSheetsSyncRepository.save(run);
+        } catch (Exception e) {
+            // Never mask the sync's own outcome with a failure to record it
+            logger.error("Error recording Google Sheets sync run: {}", e.getMessage(), e);
+        }
+        syncMetrics.record(run);
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /**
+     * Sources from {@code google.sheets.sources}, comma-separated "spreadsheetId/Tab!A:H"
+     * entries; when that is empty, the single {@code google.sheets.spreadsheet.id} and
+     * {@code google.sheets.range}.
+     */
+    private List<SheetSource> configuredSources() {
+        List<SheetSource> sources = new ArrayList<>();
+        for (String entry : sourcesProperty.split(",")) {
+            String source = entry.trim();
+            if (source.isEmpty()) {
+                continue;
+            }
+            // Spreadsheet ids never contain '/', while tab names may
+            int separator = source.indexOf('/');
+            if (separator <= 0 || separator == source.length() - 1) {
+                throw new IllegalStateException("Invalid Google Sheets source '" + source + "'; expected spreadsheetId/range");
+            }
+            sources.add(new SheetSource(source.substring(0, separator), source.substring(separator + 1)));
+        }
+        if (sources.isEmpty()) {
+            sources.add(new SheetSource(spreadsheetId, defaultRange));
+        }
+        return sources;
+    }
+
+    /**
+     * Fetches every source, with one batchGet request per spreadsheet covering all of its
+     * ranges; different spreadsheets are fetched in parallel. Results keep the order of the
+     * configured sources.
+     */
+    private List<SourceRows> fetchSources(List<SheetSource> sources, Map<String, GoogleSheetsWatermark> watermarks)
+            throws IOException, GeneralSecurityException {
+        Map<String, List<SheetSource>> bySpreadsheet = new LinkedHashMap<>();
+        for (SheetSource source : sources) {
+            bySpreadsheet.computeIfAbsent(source.spreadsheetId, id -> new ArrayList<>()).add(source);
+        }
+        if (bySpreadsheet.size() == 1) {
+            Map.Entry<String, List<SheetSource>> only = bySpreadsheet.entrySet().iterator().next();
+            return fetchSpreadsheet(only.getKey(), only.getValue(), watermarks);
+        }
+
+        List<CompletableFuture<List<SourceRows>>> futures = new ArrayList<>();
+        for (Map.Entry<String, List<SheetSource>> entry : bySpreadsheet.entrySet()) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return fetchSpreadsheet(entry.getKey(), entry.getValue(), watermarks);
+                } catch (IOException | GeneralSecurityException e) {
+                    throw new CompletionException(e);
                 }
+            }, fetchExecutor));
+        }
+        try {
+            List<SourceRows> fetched = new ArrayList<>();
+            for (CompletableFuture<List<SourceRows>> future : futures) {
+                fetched.addAll(future.join());
+            }
+            return fetched;
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof GeneralSecurityException securityException) {
+                throw securityException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
             }
+            throw e;
         }
+    }
 
-        GoogleSheetsSync syncRecord = new GoogleSheetsSync();
-        syncRecord.setSpreadsheetId(spreadsheetId);
-        syncRecord.setLastSyncTime(LocalDateTime.now());
-        syncRecord.setLastSyncRange(range);
-        syncRecord.setRowsProcessed(values.size());
-        googleSheetsSyncRepository.save(syncRecord);
-        
-        logger.info("Google Sheets sync completed. New picks added: {}", newPicksCount);
-        return newPicksCount;
+    /**
+     * Reads the ranges of one spreadsheet. A range with a watermark is read from the
+     * watermark row down, and that row must still hash to the stored value; if it does not,
+     * rows above it were inserted, removed or re-sorted, and the range is re-read in full
+     * with a second batchGet that covers all such ranges at once.
+     */
+    private List<SourceRows> fetchSpreadsheet(String spreadsheetId, List<SheetSource> sources,
+                                              Map<String, GoogleSheetsWatermark> watermarks) throws IOException, GeneralSecurityException {
+        List<String> ranges = new ArrayList<>();
+        for (SheetSource source : sources) {
+            GoogleSheetsWatermark watermark = watermarks.get(source.key());
+            ranges.add(canResume(watermark) ? rangeFromRow(source.range, watermark.getLastRowIndex()) : source.range);
+        }
+        List<ValueRange> responses = googleSheetsClient.batchGetValues(spreadsheetId, ranges);
+        checkResponseCount(spreadsheetId, ranges, responses);
+
+        SourceRows[] fetched = new SourceRows[sources.size()];
+        List<Integer> rescans = new ArrayList<>();
+        for (int i = 0; i < sources.size(); i++) {
+            SheetSource source = sources.get(i);
+            ValueRange response = responses.get(i);
+            List<List<Object>> values = response.getValues() != null ? response.getValues() : List.of();
+            GoogleSheetsWatermark watermark = watermarks.get(source.key());
+            if (!canResume(watermark)) {
+                fetched[i] = new SourceRows(source, values, getStartRowFromRange(response.getRange()), true, ranges.get(i));
+            } else if (getStartRowFromRange(response.getRange()) == watermark.getLastRowIndex() && !values.isEmpty()
+                    && watermark.getLastRowHash().equals(hashRow(values.get(0)))) {
+                fetched[i] = new SourceRows(source, values.subList(1, values.size()), watermark.getLastRowIndex() + 1, false, ranges.get(i));
+            } else {
+                logger.info("Rows at or above row {} of {} changed (inserted, removed or re-sorted); running a full re-scan",
+                        watermark.getLastRowIndex(), source.range);
+                rescans.add(i);
+            }
+        }
+
+        if (!rescans.isEmpty()) {
+            List<String> fullRanges = rescans.stream().map(i -> sources.get(i).range).toList();
+            List<ValueRange> rescanned = googleSheetsClient.batchGetValues(spreadsheetId, fullRanges);
+            checkResponseCount(spreadsheetId, fullRanges, rescanned);
+            for (int j = 0; j < rescans.size(); j++) {
+                int i = rescans.get(j);
+                ValueRange response = rescanned.get(j);
+                List<List<Object>> values = response.getValues() != null ? response.getValues() : List.of();
+                fetched[i] = new SourceRows(sources.get(i), values, getStartRowFromRange(response.getRange()), true, fullRanges.get(j));
+            }
+        }
+        return List.of(fetched);
     }
-    
+
+    // batchGet answers with one value range per requested range, in order; anything else cannot be matched up
+    private static void checkResponseCount(String spreadsheetId, List<String> ranges, List<ValueRange> responses) throws IOException {
+        if (responses.size() != ranges.size()) {
+            throw new IOException("Google Sheets returned " + responses.size() + " value ranges for the "
+                    + ranges.size() + " requested from spreadsheet " + spreadsheetId + ": " + ranges);
+        }
+    }
+
+    // Incremental reads only see appended rows, so edits further up need a periodic full scan
+    private boolean canResume(GoogleSheetsWatermark watermark) {
+        return watermark != null && watermark.getLastRowIndex() != null && watermark.getLastRowHash() != null
+                && watermark.getLastFullScanAt() != null
+                && watermark.getLastFullScanAt().isAfter(LocalDateTime.now().minusMinutes(fullRescanIntervalMinutes));
+    }
+
+    private void saveWatermarks(List<SourceRows> fetched, Map<String, GoogleSheetsWatermark> watermarks) {
+        LocalDateTime now = LocalDateTime.now();
+        List<GoogleSheetsWatermark> updated = new ArrayList<>();
+        for (SourceRows source : fetched) {
+            GoogleSheetsWatermark watermark = watermarks.computeIfAbsent(source.source.key(), key -> {
+                GoogleSheetsWatermark created = new GoogleSheetsWatermark();
+                created.setSpreadsheetId(source.source.spreadsheetId);
+                created.setSheetRange(source.source.range);
+                return created;
+            });
+            if (!source.rows.isEmpty()) {
+                // The API omits trailing empty rows, so the last row returned is the last row with data
+                watermark.setLastRowIndex(source.firstRow + source.rows.size() - 1);
+                watermark.setLastRowHash(hashRow(source.rows.get(source.rows.size() - 1)));
+            } else if (source.fullScan) {
+                watermark.setLastRowIndex(null);
+                watermark.setLastRowHash(null);
+            }
+            if (source.fullScan) {
+                watermark.setLastFullScanAt(now);
+            }
+            watermark.setUpdatedAt(now);
+            updated.add(watermark);
+        }
+        googleSheetsWatermarkRepository.saveAll(updated);
+    }
+
+    /**
+     * Applies the rows of all sources to the picks as one ingestion batch. Only a row's key
+     * columns and content hash are read up front; rows whose hash matches the one stored at
+     * their last sync are skipped without being parsed. Changed rows become batched updates
+     * and unseen keys batched inserts, so writes follow the number of edits rather than the
+     * size of the sheets. For each spreadsheet read in full, rows deleted from it are
+     * forgotten and, when configured, their picks deactivated.
+     */
+    private SheetChanges applyRows(List<SourceRows> fetched, GoogleSheetsSync run, Consumer<String> progress) {
+        progress.accept("parse");
+        long stageStart = System.nanoTime();
+        Set<String> spreadsheetIds = new LinkedHashSet<>();
+        fetched.forEach(source -> spreadsheetIds.add(source.source.spreadsheetId));
+        Map<String, Map<StockPickKey, GoogleSheetsRow>> trackedRows = new HashMap<>();
+        for (GoogleSheetsRow trackedRow : googleSheetsRowRepository.findBySpreadsheetIdIn(spreadsheetIds)) {
+            trackedRows.computeIfAbsent(trackedRow.getSpreadsheetId(), id -> new HashMap<>()).put(trackedRow.key(), trackedRow);
+        }
+        long dedupeMs = elapsedMs(stageStart);
+
+        stageStart = System.nanoTime();
+        int skippedRows = 0;
+        int failedRows = 0;
+        Set<StockPickKey> seenKeys = new HashSet<>();
+        Map<String, Set<StockPickKey>> seenBySpreadsheet = new HashMap<>();
+        // Spreadsheets that were not read in full or had unreadable rows; deletions cannot be judged there
+        Set<String> partiallyRead = new HashSet<>();
+        Map<StockPickKey, String> rowHashes = new HashMap<>();
+        Map<StockPickKey, String> rowSpreadsheets = new HashMap<>();
+        Map<StockPickKey, GoogleSheetsRow> changedRows = new HashMap<>();
+        List<StockPick> changedPicks = new ArrayList<>();
+        List<StockPick> untrackedPicks = new ArrayList<>();
+        for (SourceRows source : fetched) {
+            String sheetId = source.source.spreadsheetId;
+            if (!source.fullScan) {
+                partiallyRead.add(sheetId);
+            }
+            Map<StockPickKey, GoogleSheetsRow> sheetRows = trackedRows.getOrDefault(sheetId, Map.of());
+            Set<StockPickKey> sheetKeys = seenBySpreadsheet.computeIfAbsent(sheetId, id -> new HashSet<>());
+            for (int i = 0; i < source.rows.size(); i++) {
+                List<Object> row = source.rows.get(i);
+                int rowNumber = source.firstRow + i;
+                if (row.size() < 5) { // Minimum required columns
+                    continue;
+                }
+                StockPickKey key;
+                try {
+                    key = sheetRowParser.parseKey(row);
+                } catch (Exception e) {
+                    logger.error("Error processing row {} of {}: {}", rowNumber, source.source.range, e.getMessage());
+                    partiallyRead.add(sheetId);
+                    failedRows++;
+                    continue;
+                }
+                if (key == null) { // header row
+                    continue;
+                }
+                sheetKeys.add(key);
+                // add() is false for repeats within or across sources
+                if (!seenKeys.add(key)) {
+                    continue;
+                }
+                String rowHash = hashRow(row);
+                GoogleSheetsRow trackedRow = sheetRows.get(key);
+                if (trackedRow != null && rowHash.equals(trackedRow.getRowHash())) {
+                    skippedRows++;
+                    continue;
+                }
+                StockPick stockPick = createStockPickFromRow(row, rowNumber);
+                if (stockPick == null) {
+                    partiallyRead.add(sheetId);
+                    failedRows++;
+                    continue;
+                }
+                rowHashes.put(key, rowHash);
+                rowSpreadsheets.put(key, sheetId);
+                if (trackedRow != null) {
+                    stockPick.setId(trackedRow.getPickId());
+                    changedRows.put(key, trackedRow);
+                    changedPicks.add(stockPick);
+                } else {
+                    untrackedPicks.add(stockPick);
+                }
+            }
+        }
+        run.setParseMs(elapsedMs(stageStart));
+        run.setSkippedRecords(skippedRows);
+        run.setFailedRecords(failedRows);
+
+        // Untracked rows may still match a pick inserted before hashes were kept, or by an admin
+        progress.accept("dedupe");
+        stageStart = System.nanoTime();
+        List<StockPick> newPicks = new ArrayList<>();
+        Map<StockPickKey, Long> existingIds = findExistingPickIds(untrackedPicks);
+        for (StockPick pick : untrackedPicks) {
+            Long existingId = existingIds.get(keyOf(pick));
+            if (existingId != null) {
+                pick.setId(existingId);
+                changedPicks.add(pick);
+            } else {
+                newPicks.add(pick);
+            }
+        }
+
+        List<GoogleSheetsRow> removedRows = new ArrayList<>();
+        for (Map.Entry<String, Set<StockPickKey>> entry : seenBySpreadsheet.entrySet()) {
+            if (partiallyRead.contains(entry.getKey()) || entry.getValue().isEmpty()) {
+                continue;
+            }
+            for (GoogleSheetsRow trackedRow : trackedRows.getOrDefault(entry.getKey(), Map.of()).values()) {
+                // A row moved to another source is not a deletion
+                if (!seenKeys.contains(trackedRow.key())) {
+                    removedRows.add(trackedRow);
+                }
+            }
+        }
+        run.setDedupeMs(dedupeMs + elapsedMs(stageStart));
+
+        progress.accept("write");
+        stageStart = System.nanoTime();
+        SheetChanges changes = writeChanges(newPicks, changedPicks, rowHashes, rowSpreadsheets, changedRows, removedRows);
+        run.setWriteMs(elapsedMs(stageStart));
+        run.setInsertedRecords(changes.createdIds.size());
+        run.setUpdatedRecords(changes.updatedIds.size());
+        run.setDeactivatedRecords(changes.deactivatedIds.size());
+        return changes;
+    }
+
+    private SheetChanges writeChanges(List<StockPick> newPicks, List<StockPick> changedPicks, Map<StockPickKey, String> rowHashes,
+                                      Map<StockPickKey, String> rowSpreadsheets, Map<StockPickKey, GoogleSheetsRow> changedRows,
+                                      List<GoogleSheetsRow> removedRows) {
+        List<Long> createdIds = insertNewPicks(newPicks);
+        if (changedPicks.isEmpty() && removedRows.isEmpty() && createdIds.isEmpty()) {
+            return new SheetChanges(createdIds, List.of(), List.of());
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            List<Long> updatedIds = stockPickRepository.updateFromSheet(changedPicks);
+            Set<Long> updated = new HashSet<>(updatedIds);
+
+            List<GoogleSheetsRow> rowsToStore = new ArrayList<>();
+            List<Long> staleRowIds = new ArrayList<>();
+            for (StockPick pick : newPicks) {
+                if (pick.getId() != null) {
+                    StockPickKey key = keyOf(pick);
+                    rowsToStore.add(trackedRow(rowSpreadsheets.get(key), pick, rowHashes.get(key)));
+                }
+            }
+            for (StockPick pick : changedPicks) {
+                StockPickKey key = keyOf(pick);
+                if (updated.contains(pick.getId())) {
+                    rowsToStore.add(trackedRow(rowSpreadsheets.get(key), pick, rowHashes.get(key)));
+                } else if (changedRows.containsKey(key)) {
+                    // The pick was deleted; forget the row so the next sync inserts it again
+                    staleRowIds.add(changedRows.get(key).getId());
+                }
+            }
+            googleSheetsRowRepository.upsertAll(rowsToStore);
+
+            List<Long> deactivatedIds = List.of();
+            if (!removedRows.isEmpty()) {
+                removedRows.forEach(row -> staleRowIds.add(row.getId()));
+                if (deactivateMissing) {
+                    List<Long> removedPickIds = removedRows.stream().map(GoogleSheetsRow::getPickId).toList();
+                    deactivatedIds = stockPickRepository.closeActivePicks(removedPickIds, LocalDateTime.now());
+                }
+                logger.info("{} picks were deleted from the sheets; {} deactivated", removedRows.size(), deactivatedIds.size());
+            }
+            if (!staleRowIds.isEmpty()) {
+                googleSheetsRowRepository.deleteAllByIdInBatch(staleRowIds);
+            }
+            return new SheetChanges(createdIds, updatedIds, deactivatedIds);
+        });
+    }
+
+    private Map<StockPickKey, Long> findExistingPickIds(List<StockPick> picks) {
+        if (picks.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate fromDay = null;
+        LocalDate toDay = null;
+        for (StockPick pick : picks) {
+            LocalDate day = pick.getPickDate().toLocalDate();
+            fromDay = fromDay == null || day.isBefore(fromDay) ? day : fromDay;
+            toDay = toDay == null || day.isAfter(toDay) ? day : toDay;
+        }
+        Map<StockPickKey, Long> existingIds = new HashMap<>();
+        for (StockPickSummary summary : stockPickRepository.findByPickDateBetweenOrderByPickDateDesc(
+                fromDay.atStartOfDay(), toDay.atTime(LocalTime.MAX))) {
+            existingIds.put(new StockPickKey(summary.getSymbol(), summary.getPickType(), summary.getPickDate().toLocalDate()), summary.getId());
+        }
+        return existingIds;
+    }
+
+    /**
+     * Inserts new picks in a single transaction as batched inserts. If a concurrent sync or
+     * an admin inserted one of them meanwhile, falls back to per-row inserts that skip
+     * existing picks. Inserted picks get their generated ids.
+     */
+    private List<Long> insertNewPicks(List<StockPick> newPicks) {
+        if (newPicks.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            return transactionTemplate.execute(status -> {
+                stockPickRepository.saveAll(newPicks);
+                stockPickRepository.flush();
+                return newPicks.stream().map(StockPick::getId).toList();
+            });
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Batched insert of {} picks conflicted with a concurrent insert; inserting row by row", newPicks.size());
+            List<Long> insertedIds = new ArrayList<>();
+            for (StockPick pick : newPicks) {
+                pick.setId(null);
+                stockPickRepository.insertIfAbsent(pick).ifPresent(id -> {
+                    pick.setId(id);
+                    insertedIds.add(id);
+                });
+            }
+            return insertedIds;
+        }
+    }
+
+    private GoogleSheetsRow trackedRow(String spreadsheetId, StockPick pick, String rowHash) {
+        GoogleSheetsRow row = new GoogleSheetsRow();
+        row.setSpreadsheetId(spreadsheetId);
+        row.setSymbol(pick.getSymbol());
+        row.setPickType(pick.getPickType());
+        row.setPickDay(pick.getPickDate().toLocalDate());
+        row.setPickId(pick.getId());
+        row.setRowHash(rowHash);
+        return row;
+    }
+
+    private static StockPickKey keyOf(StockPick pick) {
+        return new StockPickKey(pick.getSymbol(), pick.getPickType(), pick.getPickDate().toLocalDate());
+    }
+
+    private static String sourceKey(String spreadsheetId, String range) {
+        return spreadsheetId + "/" + range;
+    }
+
+    // One configured range of one spreadsheet
+    private static class SheetSource {
+        private final String spreadsheetId;
+        private final String range;
+
+        SheetSource(String spreadsheetId, String range) {
+            this.spreadsheetId = spreadsheetId;
+            this.range = range;
+        }
+
+        String key() {
+            return sourceKey(spreadsheetId, range);
+        }
+    }
+
+    // Rows read from one source in this run, starting at sheet row firstRow
+    private static class SourceRows {
+        private final SheetSource source;
+        private final List<List<Object>> rows;
+        private final int firstRow;
+        private final boolean fullScan;
+        private final String fetchedRange;
+
+        SourceRows(SheetSource source, List<List<Object>> rows, int firstRow, boolean fullScan, String fetchedRange) {
+            this.source = source;
+            this.rows = rows;
+            this.firstRow = firstRow;
+            this.fullScan = fullScan;
+            this.fetchedRange = fetchedRange;
+        }
+    }
+
+    /** A sync run recorded as QUEUED under the sync lease, ready to be run by {@link #runSync(SyncClaim)}. */
+    public static class SyncClaim {
+        private final GoogleSheetsSync run;
+        private final long fencingToken;
+
+        SyncClaim(GoogleSheetsSync run, long fencingToken) {
+            this.run = run;
+            this.fencingToken = fencingToken;
+        }
+
+        public GoogleSheetsSync getRun() {
+            return run;
+        }
+    }
+
+    private static class SheetChanges {
+        private final List<Long> createdIds;
+        private final List<Long> updatedIds;
+        private final List<Long> deactivatedIds;
+
+        SheetChanges(List<Long> createdIds, List<Long> updatedIds, List<Long> deactivatedIds) {
+            this.createdIds = createdIds;
+            this.updatedIds = updatedIds;
+            this.deactivatedIds = deactivatedIds;
+        }
+    }
+
     @Scheduled(fixedRateString = "#{${google.sheets.sync.interval.minutes:15} * 60 * 1000}")
     public void scheduledSyncStockPicks() {
         if (!syncEnabled) {
@@ -148,9 +827,21 @@ public class GoogleSheetsService {
             return;
         }
         
+        // Every instance ticks; whichever finds no recent run claims the sync lease and runs it
+        long recentMinutes = Math.max(1, syncIntervalMinutes - 1);
+        if (googleSheetsSyncRepository.existsByLastSyncTimeAfter(LocalDateTime.now().minusMinutes(recentMinutes))) {
+            logger.debug("Skipping scheduled sync - a sync finished in the last {} minutes", recentMinutes);
+            return;
+        }
+        Optional<SyncClaim> claim = claimSync();
+        if (claim.isEmpty()) {
+            logger.debug("Skipping scheduled sync - a sync is already running");
+            return;
+        }
+        
         try {
             logger.info("Starting scheduled Google Sheets sync");
-            int newPicks = syncStockPicks();
+            int newPicks = runSync(claim.get());
             logger.info("Scheduled Google Sheets sync completed successfully. New picks: {}", newPicks);
         } catch (Exception e) {
             logger.error("Error during scheduled Google Sheets sync: {}", e.getMessage(), e);
@@ -167,109 +858,58 @@ public class GoogleSheetsService {
 
     private StockPick createStockPickFromRow(List<Object> row, int rowNumber) {
         try {
-            StockPick stockPick = new StockPick();
-            
-            // Skip header row if it contains text like "Date", "Symbol", etc.
-            if (row.get(0).toString().toLowerCase().contains("date") || 
-                row.get(1).toString().toLowerCase().contains("symbol")) {
-                return null;
-            }
-            
-            // Assuming columns: Date, Symbol, Company Name, Pick Type, Entry Price, Commentary, Current Price, Target Price
-            stockPick.setPickDate(parseDate(row.get(0).toString()));
-            stockPick.setSymbol(row.get(1).toString().toUpperCase().trim());
-            stockPick.setCompanyName(row.get(2).toString().trim());
-            stockPick.setPickType(PickType.valueOf(row.get(3).toString().toUpperCase().trim()));
-            stockPick.setEntryPrice(parsePrice(row.get(4).toString()));
-            stockPick.setCommentary(row.size() > 5 ? row.get(5).toString().trim() : "");
-            
-            if (row.size() > 6 && !row.get(6).toString().trim().isEmpty()) {
-                stockPick.setCurrentPrice(parsePrice(row.get(6).toString()));
-            }
-            
-            if (row.size() > 7 && !row.get(7).toString().trim().isEmpty()) {
-                stockPick.setTargetPrice(parsePrice(row.get(7).toString()));
-            }
-            
-            stockPick.setCreatedAt(LocalDateTime.now());
-            stockPick.setUpdatedAt(LocalDateTime.now());
-            
-            return stockPick;
+            return sheetRowParser.parse(row);
         } catch (Exception e) {
             logger.error("Error processing row {}: {}", rowNumber, e.getMessage());
             return null;
         }
     }
 
-    private LocalDateTime parseDate(String dateStr) {
+    // First row of an A1 range such as "Sheet1!A100:H250"; 1 when the range has no row number
+    private int getStartRowFromRange(String range) {
         try {
-            // Try multiple date formats
-            String cleanDate = dateStr.trim();
-            String[] patterns = {
-                "M/d/yyyy",
-                "MM/dd/yyyy", 
-                "yyyy-MM-dd",
-                "M/d/yy",
-                "MM/dd/yy"
-            };
-            
-            for (String pattern : patterns) {
-                try {
-                    DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(pattern);
-                    LocalDate localDate = LocalDate.parse(cleanDate, dateFormatter);
-                    return localDate.atStartOfDay(); // Convert to LocalDateTime at 00:00:00
-                } catch (Exception ignored) {
-                    // Try next formatter
-                }
+            if (range != null) {
+                String cellRange = range.substring(range.lastIndexOf('!') + 1);
+                String startCell = cellRange.split(":")[0];
+                String rowNumber = startCell.replaceAll("[^0-9]", "");
+                return rowNumber.isEmpty() ? 1 : Integer.parseInt(rowNumber);
             }
-            
-            // If all fail, return current time
-            logger.warn("Could not parse date: {}, using current time", dateStr);
-            return LocalDateTime.now();
         } catch (Exception e) {
-            logger.error("Error parsing date: {}, using current time", dateStr);
-            return LocalDateTime.now();
+            logger.error("Error parsing range: {}", range);
         }
+        return 1;
     }
-    
-    private BigDecimal parsePrice(String priceStr) {
-        try {
-            // Remove currency symbols and spaces
-            String cleanPrice = priceStr.trim()
-                .replace("$", "")
-                .replace(",", "")
-                .replace(" ", "");
-            return new BigDecimal(cleanPrice);
-        } catch (Exception e) {
-            logger.error("Error parsing price: {}", priceStr);
-            return BigDecimal.ZERO;
-        }
+
+    // A range narrowed to start at the given row, e.g. "Sheet1!A:H" -> "Sheet1!A120:H"
+    private String rangeFromRow(String range, int row) {
+        int separator = range.lastIndexOf('!');
+        String sheetPrefix = separator >= 0 ? range.substring(0, separator + 1) : "";
+        String[] columns = range.substring(separator + 1).split(":");
+        String startColumn = columns[0].replaceAll("[0-9]", "");
+        String endColumn = columns.length > 1 ? columns[1].replaceAll("[0-9]", "") : startColumn;
+        return sheetPrefix + startColumn + row + ":" + endColumn;
     }
 
-    private int getStartRowFromRange(String range) {
+    private String hashRow(List<Object> row) {
         try {
-            String[] parts = range.split("!");
-            if (parts.length > 1) {
-                String cellRange = parts[1];
-                String[] rangeParts = cellRange.split(":");
-                if (rangeParts.length > 0) {
-                    String startCell = rangeParts[0];
-                    String rowNumber = startCell.replaceAll("[^0-9]", "");
-                    return rowNumber.isEmpty() ? 1 : Integer.parseInt(rowNumber);
-                }
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object cell : row) {
+                digest.update(String.valueOf(cell).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1f);
             }
-        } catch (Exception e) {
-            logger.error("Error parsing range: {}", range);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return 1;
     }
 
-    public List<StockPick> getRecentStockPicks(int limit) {
-        return stockPickRepository.findTopByOrderByPickDateDesc(limit);
-    }
-    
     public GoogleSheetsSync getLastSyncStatus() {
-        return googleSheetsSyncRepository.findTopByOrderByLastSyncTimeDesc();
+        return googleSheetsSyncRepository.findTopByLastSyncTimeIsNotNullOrderByLastSyncTimeDesc();
+    }
+
+    // Newest first, including runs that are still queued or running
+    public List<GoogleSheetsSync> getSyncHistory(int limit) {
+        return googleSheetsSyncRepository.findAllByOrderByIdDesc(PageRequest.of(0, limit));
     }
     
     public boolean isSyncEnabled() {
@@ -0,0 +1,189 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.sync.SyncJobStatus;
+import com.stockpicks.backend.entity.GoogleSheetsSync;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs manual Google Sheets syncs as background jobs. At most one sync runs at a time
+ * across all instances: a trigger that arrives while a sync is queued or running anywhere
+ * joins it and gets its id back, so repeated clicks never start parallel syncs. A job is
+ * its google_sheets_sync run row, so any instance can answer polls for it, and progress
+ * can also be followed over Server-Sent Events from any instance.
+ */
+@Service
+public class GoogleSheetsSyncJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GoogleSheetsSyncJobService.class);
+
+    private static final long EVENTS_TIMEOUT_MILLIS = 30 * 60 * 1000;
+
+    @Autowired
+    private GoogleSheetsService googleSheetsService;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sheets-sync-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Event stream subscribers on this instance, by job id
+    private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Starts a sync, or joins the one queued or running on any instance. Throws
+     * IllegalStateException in the moment between another instance taking the sync lease
+     * and recording its run.
+     */
+    public SyncJobStatus submit() {
+        Optional<GoogleSheetsService.SyncClaim> claim = googleSheetsService.claimSync();
+        if (claim.isPresent()) {
+            GoogleSheetsSync run = claim.get().getRun();
+            executor.execute(() -> run(claim.get()));
+            logger.info("Submitted Google Sheets sync job {}", run.getId());
+            return toStatus(run, false);
+        }
+        GoogleSheetsSync active = googleSheetsService.getActiveSync();
+        if (active == null) {
+            throw new IllegalStateException("A sync is starting on another instance; try again shortly");
+        }
+        return toStatus(active, true);
+    }
+
+    /** The job's current status, or null if the id is unknown. */
+    public SyncJobStatus getJob(String jobId) {
+        GoogleSheetsSync run = findRun(jobId);
+        return run != null ? toStatus(run, false) : null;
+    }
+
+    /**
+     * Streams the job's status on every stage change, starting with its current status,
+     * and completes once the job has finished. Returns null if the id is unknown.
+     */
+    public SseEmitter subscribe(String jobId) {
+        GoogleSheetsSync run = findRun(jobId);
+        if (run == null) {
+            return null;
+        }
+        SseEmitter emitter = new SseEmitter(EVENTS_TIMEOUT_MILLIS);
+        SyncJobStatus status = toStatus(run, false);
+        if (!send(emitter, status)) {
+            return emitter;
+        }
+        if (status.getFinishedAt() != null) {
+            emitter.complete();
+            return emitter;
+        }
+        Subscription subscription = subscriptions.computeIfAbsent(run.getId(), id -> new Subscription());
+        subscription.lastSent = status;
+        subscription.emitters.add(emitter);
+        emitter.onCompletion(() -> subscription.emitters.remove(emitter));
+        emitter.onTimeout(() -> subscription.emitters.remove(emitter));
+        emitter.onError(error -> subscription.emitters.remove(emitter));
+        return emitter;
+    }
+
+    // The job may run on another instance, so subscribers are fed from its run row
+    @Scheduled(fixedDelay = 1000)
+    public void pushJobUpdates() {
+        for (Map.Entry<Long, Subscription> entry : subscriptions.entrySet()) {
+            Subscription subscription = entry.getValue();
+            if (subscription.emitters.isEmpty()) {
+                subscriptions.remove(entry.getKey());
+                continue;
+            }
+            try {
+                GoogleSheetsSync run = googleSheetsService.getSync(entry.getKey());
+                if (run == null) {
+                    continue;
+                }
+                SyncJobStatus status = toStatus(run, false);
+                if (!status.equals(subscription.lastSent)) {
+                    subscription.lastSent = status;
+                    subscription.emitters.removeIf(emitter -> !send(emitter, status));
+                }
+                if (status.getFinishedAt() != null) {
+                    subscription.emitters.forEach(SseEmitter::complete);
+                    subscriptions.remove(entry.getKey());
+                }
+            } catch (Exception e) {
+                logger.warn("Error pushing Google Sheets sync job {} status: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void run(GoogleSheetsService.SyncClaim claim) {
+        try {
+            googleSheetsService.runSync(claim);
+        } catch (Exception e) {
+            // Recorded as FAILED on the run row
+            logger.error("Google Sheets sync job {} failed: {}", claim.getRun().getId(), e.getMessage(), e);
+        }
+    }
+
+    private GoogleSheetsSync findRun(String jobId) {
+        try {
+            return googleSheetsService.getSync(Long.valueOf(jobId));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static SyncJobStatus toStatus(GoogleSheetsSync run, boolean joined) {
+        String status;
+        String message = null;
+        Integer newPicks = null;
+        switch (Objects.requireNonNullElse(run.getStatus(), "")) {
+            case "QUEUED" -> status = "QUEUED";
+            case "RUNNING" -> status = "RUNNING";
+            case "SUCCESS" -> {
+                status = "SUCCEEDED";
+                newPicks = Objects.requireNonNullElse(run.getInsertedRecords(), 0);
+                message = newPicks > 0
+                        ? newPicks + " new stock pick" + (newPicks == 1 ? "" : "s") + " added successfully!"
+                        : "Your stock picks are already up-to-date! No new picks found.";
+            }
+            default -> {
+                status = "FAILED";
+                message = "Error syncing stock picks: " + run.getErrorMessage();
+            }
+        }
+        return new SyncJobStatus(String.valueOf(run.getId()), status, run.getStage(), joined, run.getSyncDate(),
+                run.getStartedAt(), run.getFinishedAt(), newPicks, message);
+    }
+
+    private static boolean send(SseEmitter emitter, SyncJobStatus status) {
+        try {
+            emitter.send(SseEmitter.event().name("sync-job").data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            return false;
+        }
+    }
+
+    private static class Subscription {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private volatile SyncJobStatus lastSent;
+    }
+}
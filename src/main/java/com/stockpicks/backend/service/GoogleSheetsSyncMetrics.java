@@ -0,0 +1,61 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.entity.GoogleSheetsSync;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes each Google Sheets sync run to Micrometer: run duration by outcome and scan
+ * type, time per stage, and rows by what happened to them.
+ */
+@Component
+public class GoogleSheetsSyncMetrics {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    public void record(GoogleSheetsSync run) {
+        String status = run.getStatus() != null ? run.getStatus() : "UNKNOWN";
+        String scan = Boolean.TRUE.equals(run.getFullScan()) ? "full" : "incremental";
+        recordTime("sheets.sync.duration", "Sheets sync run duration", run.getDurationMs(), "status", status, "scan", scan);
+
+        recordStage("auth", run.getAuthMs());
+        recordStage("fetch", run.getFetchMs());
+        recordStage("parse", run.getParseMs());
+        recordStage("dedupe", run.getDedupeMs());
+        recordStage("write", run.getWriteMs());
+
+        countRows("read", run.getRowsProcessed());
+        countRows("inserted", run.getInsertedRecords());
+        countRows("updated", run.getUpdatedRecords());
+        countRows("skipped", run.getSkippedRecords());
+        countRows("deactivated", run.getDeactivatedRecords());
+        countRows("failed", run.getFailedRecords());
+    }
+
+    private void recordStage(String stage, Long millis) {
+        recordTime("sheets.sync.stage", "Time spent in one stage of a Sheets sync", millis, "stage", stage);
+    }
+
+    private void recordTime(String name, String description, Long millis, String... tags) {
+        if (millis == null) {
+            return;
+        }
+        Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(meterRegistry)
+                .record(millis, TimeUnit.MILLISECONDS);
+    }
+
+    private void countRows(String result, Integer rows) {
+        if (rows == null || rows == 0) {
+            return;
+        }
+        meterRegistry.counter("sheets.sync.rows", "result", result).increment(rows);
+    }
+}
@@ -0,0 +1,158 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.entity.JobLease;
+import com.stockpicks.backend.repository.JobLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cluster-wide mutual exclusion for scheduled jobs, backed by the job_leases table. Every
+ * instance runs the same @Scheduled methods; on each tick they ask for the job's lease and
+ * only the holder does the work. Holders renew on their next tick, so a job keeps running
+ * on one node until that node stops, and moves to another node once the lease expires.
+ */
+@Service
+public class JobLeaseService {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobLeaseService.class);
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Host (the pod name under Kubernetes) plus a per-process suffix, so a restarted node is a new owner
+    private final String owner = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+    private final Map<String, HeldLease> heldLeases = new ConcurrentHashMap<>();
+
+    private final Set<String> instrumentedJobs = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Takes or renews the job's lease for {@code ttl}.
+     *
+     * @return the fencing token to check before writing, or empty if another node holds the lease
+     */
+    public Optional<Long> tryAcquire(String jobName, Duration ttl) {
+        registerGauges(jobName);
+        Optional<Long> token;
+        try {
+            token = jobLeaseRepository.tryAcquire(jobName, owner, ttl.toSeconds());
+        } catch (Exception e) {
+            // Without the lease table no node may run the job; better to skip a tick than to run it everywhere
+            logger.error("Error acquiring lease for job {}: {}", jobName, e.getMessage(), e);
+            countAttempt(jobName, "error");
+            return Optional.empty();
+        }
+
+        if (token.isPresent()) {
+            HeldLease previous = heldLeases.put(jobName, new HeldLease(token.get(), Instant.now().plus(ttl)));
+            if (previous == null || previous.fencingToken != token.get()) {
+                logger.info("Acquired lease for job {} as {} with fencing token {}", jobName, owner, token.get());
+            }
+            countAttempt(jobName, "acquired");
+        } else {
+            heldLeases.remove(jobName);
+            countAttempt(jobName, "held_elsewhere");
+        }
+        return token;
+    }
+
+    /** Whether the lease granted with this fencing token is still held; checked before writing results. */
+    public boolean isCurrent(String jobName, long fencingToken) {
+        boolean current = jobLeaseRepository.isCurrent(jobName, fencingToken);
+        if (!current) {
+            heldLeases.remove(jobName);
+            logger.warn("Lease for job {} with fencing token {} is no longer held", jobName, fencingToken);
+        }
+        return current;
+    }
+
+    /** Gives the lease up early, for jobs that should not keep it for the rest of the interval. */
+    public void release(String jobName, long fencingToken) {
+        try {
+            jobLeaseRepository.release(jobName, owner, fencingToken);
+        } catch (Exception e) {
+            // The lease simply runs until its expiry
+            logger.warn("Error releasing lease for job {}: {}", jobName, e.getMessage());
+        }
+        heldLeases.remove(jobName);
+    }
+
+    public List<JobLease> getLeases() {
+        return jobLeaseRepository.findAll();
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    private boolean isHeld(String jobName) {
+        HeldLease lease = heldLeases.get(jobName);
+        return lease != null && Instant.now().isBefore(lease.expiresAt);
+    }
+
+    private void registerGauges(String jobName) {
+        if (!instrumentedJobs.add(jobName)) {
+            return;
+        }
+        Gauge.builder("job.lease.held", this, service -> service.isHeld(jobName) ? 1 : 0)
+                .description("1 while this instance holds the job's lease")
+                .tag("job", jobName)
+                .register(meterRegistry);
+        Gauge.builder("job.lease.fencing.token", heldLeases, leases -> {
+                    HeldLease lease = leases.get(jobName);
+                    return lease != null ? lease.fencingToken : 0;
+                })
+                .description("Fencing token of the lease this instance holds, 0 when it holds none")
+                .tag("job", jobName)
+                .register(meterRegistry);
+    }
+
+    private void countAttempt(String jobName, String outcome) {
+        Counter.builder("job.lease.attempts")
+                .description("Lease acquisition attempts by outcome")
+                .tag("job", jobName)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String resolveHostName() {
+        String hostName = System.getenv("HOSTNAME");
+        if (hostName != null && !hostName.isBlank()) {
+            return hostName;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown-host";
+        }
+    }
+
+    private static class HeldLease {
+        private final long fencingToken;
+        private final Instant expiresAt;
+
+        HeldLease(long fencingToken, Instant expiresAt) {
+            this.fencingToken = fencingToken;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
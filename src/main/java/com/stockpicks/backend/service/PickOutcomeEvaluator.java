@@ -0,0 +1,252 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.entity.StockPickOutcome;
+import com.stockpicks.backend.entity.User;
+import com.stockpicks.backend.enums.PickOutcome;
+import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.enums.SubscriptionStatus;
+import com.stockpicks.backend.event.QuotesRefreshedEvent;
+import com.stockpicks.backend.event.StockPicksChangedEvent;
+import com.stockpicks.backend.repository.StockPickOutcomeRepository;
+import com.stockpicks.backend.repository.StockPickRepository;
+import com.stockpicks.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Closes active picks whose target or stop-loss has been reached. Thresholds are indexed
+ * per symbol in two sorted maps: levels hit when the price rises to them (long targets,
+ * short stops) and levels hit when it falls to them (long stops, short targets). A quote
+ * then finds every crossed level with one range view of each map, so the cost per symbol
+ * is O(log n + hits) however many picks are open.
+ */
+@Service
+public class PickOutcomeEvaluator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PickOutcomeEvaluator.class);
+
+    @Autowired
+    private StockPickReadModel stockPickReadModel;
+
+    @Autowired
+    private StockPickRepository stockPickRepository;
+
+    @Autowired
+    private StockPickOutcomeRepository stockPickOutcomeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${stock-picks.outcomes.notify-subscribers:true}")
+    private boolean notifySubscribers;
+
+    private volatile ThresholdIndex index;
+
+    // Emails every active subscriber, so it runs off the scheduler thread that delivered the quotes
+    private final ExecutorService notificationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "pick-outcome-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void stopNotificationExecutor() {
+        notificationExecutor.shutdown();
+    }
+
+    /** Symbols with at least one active pick that has a target or stop-loss. */
+    public Set<String> getWatchedSymbols() {
+        return currentIndex().bySymbol.keySet();
+    }
+
+    @EventListener
+    public void onQuotesRefreshed(QuotesRefreshedEvent event) {
+        try {
+            evaluate(event.getQuotes(), event.getRefreshedAt());
+        } catch (Exception e) {
+            logger.error("Error evaluating stock pick outcomes: {}", e.getMessage(), e);
+        }
+    }
+
+    public List<StockPickOutcome> evaluate(List<QuotesRefreshedEvent.SymbolQuote> quotes, LocalDateTime observedAt) {
+        ThresholdIndex thresholds = currentIndex();
+        Map<Long, StockPickOutcome> hits = new LinkedHashMap<>();
+        for (QuotesRefreshedEvent.SymbolQuote quote : quotes) {
+            SymbolThresholds symbolThresholds = thresholds.bySymbol.get(quote.getSymbol());
+            if (symbolThresholds != null) {
+                symbolThresholds.collectHits(quote, observedAt, hits);
+            }
+        }
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<StockPickOutcome> recorded = closePicks(hits, observedAt);
+        if (!recorded.isEmpty()) {
+            logger.info("Closed {} stock picks on target or stop-loss hits", recorded.size());
+            notifySubscribers(recorded);
+        }
+        return recorded;
+    }
+
+    // One UPDATE closes every hit pick; outcomes are only recorded for picks it actually closed
+    private List<StockPickOutcome> closePicks(Map<Long, StockPickOutcome> hits, LocalDateTime closedAt) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        return transactionTemplate.execute(status -> {
+            List<Long> closedIds = stockPickRepository.closeActivePicks(hits.keySet(), closedAt);
+            if (closedIds.isEmpty()) {
+                return List.<StockPickOutcome>of();
+            }
+            List<StockPickOutcome> outcomes = new ArrayList<>();
+            for (Long pickId : closedIds) {
+                outcomes.add(hits.get(pickId));
+            }
+            stockPickOutcomeRepository.saveAll(outcomes);
+            eventPublisher.publishEvent(new StockPicksChangedEvent(StockPicksChangedEvent.ChangeType.UPDATED, closedIds));
+            return outcomes;
+        });
+    }
+
+    private void notifySubscribers(List<StockPickOutcome> outcomes) {
+        if (!notifySubscribers) {
+            return;
+        }
+        notificationExecutor.execute(() -> {
+            try {
+                emailService.sendPickOutcomeNotification(userRepository.findBySubscriptionStatus(SubscriptionStatus.ACTIVE), outcomes);
+            } catch (Exception e) {
+                logger.error("Error notifying subscribers of pick outcomes: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    // Rebuilt from the read model whenever the pick data version moves on
+    private ThresholdIndex currentIndex() {
+        StockPickReadModel.Snapshot snapshot = stockPickReadModel.current();
+        ThresholdIndex current = index;
+        if (current == null || current.version != snapshot.getVersion()) {
+            current = new ThresholdIndex(snapshot);
+            index = current;
+        }
+        return current;
+    }
+
+    private static final class Threshold {
+        private final Long pickId;
+        private final String symbol;
+        private final PickOutcome outcome;
+        private final BigDecimal price;
+        private final LocalDate pickDay;
+
+        Threshold(StockPickSummary pick, PickOutcome outcome, BigDecimal price) {
+            this.pickId = pick.getId();
+            this.symbol = pick.getSymbol();
+            this.outcome = outcome;
+            this.price = price;
+            this.pickDay = pick.getPickDate().toLocalDate();
+        }
+    }
+
+    private static final class SymbolThresholds {
+        // Hit when the price rises to the level: long targets and short stops
+        private final TreeMap<BigDecimal, List<Threshold>> upper = new TreeMap<>();
+        // Hit when the price falls to the level: long stops and short targets
+        private final TreeMap<BigDecimal, List<Threshold>> lower = new TreeMap<>();
+
+        void add(TreeMap<BigDecimal, List<Threshold>> levels, Threshold threshold) {
+            levels.computeIfAbsent(threshold.price, price -> new ArrayList<>()).add(threshold);
+        }
+
+        void collectHits(QuotesRefreshedEvent.SymbolQuote quote, LocalDateTime observedAt, Map<Long, StockPickOutcome> hits) {
+            BigDecimal high = quote.getDayHigh() != null ? quote.getDayHigh() : quote.getPrice();
+            BigDecimal low = quote.getDayLow() != null ? quote.getDayLow() : quote.getPrice();
+            if (high != null) {
+                collect(upper.headMap(high, true), quote, true, observedAt, hits);
+            }
+            if (low != null) {
+                collect(lower.tailMap(low, true), quote, false, observedAt, hits);
+            }
+        }
+
+        private void collect(NavigableMap<BigDecimal, List<Threshold>> crossed, QuotesRefreshedEvent.SymbolQuote quote,
+                             boolean rising, LocalDateTime observedAt, Map<Long, StockPickOutcome> hits) {
+            LocalDate today = observedAt.toLocalDate();
+            for (List<Threshold> thresholds : crossed.values()) {
+                for (Threshold threshold : thresholds) {
+                    BigDecimal hitPrice = rising ? quote.getDayHigh() : quote.getDayLow();
+                    if (threshold.pickDay.equals(today) || hitPrice == null) {
+                        // The day's range may predate a pick made today; only trust the latest price
+                        hitPrice = quote.getPrice();
+                        if (hitPrice == null || (rising ? hitPrice.compareTo(threshold.price) < 0 : hitPrice.compareTo(threshold.price) > 0)) {
+                            continue;
+                        }
+                    }
+                    StockPickOutcome outcome = new StockPickOutcome(null, threshold.pickId, threshold.symbol,
+                            threshold.outcome, threshold.price, hitPrice, observedAt, null);
+                    // When one range crosses both levels the order is unknown; assume the stop came first
+                    hits.merge(threshold.pickId, outcome,
+                            (existing, candidate) -> existing.getOutcome() == PickOutcome.STOP_HIT ? existing : candidate);
+                }
+            }
+        }
+    }
+
+    private static final class ThresholdIndex {
+        private final long version;
+        private final Map<String, SymbolThresholds> bySymbol;
+
+        ThresholdIndex(StockPickReadModel.Snapshot snapshot) {
+            Map<String, SymbolThresholds> symbols = new HashMap<>();
+            for (StockPickSummary pick : snapshot.all()) {
+                if (!Boolean.TRUE.equals(pick.getIsActive()) || (pick.getTargetPrice() == null && pick.getStopLoss() == null)) {
+                    continue;
+                }
+                SymbolThresholds thresholds = symbols.computeIfAbsent(pick.getSymbol(), symbol -> new SymbolThresholds());
+                boolean isShort = pick.getPickType() == PickType.SELL;
+                if (pick.getTargetPrice() != null) {
+                    thresholds.add(isShort ? thresholds.lower : thresholds.upper,
+                            new Threshold(pick, PickOutcome.TARGET_HIT, pick.getTargetPrice()));
+                }
+                if (pick.getStopLoss() != null) {
+                    thresholds.add(isShort ? thresholds.upper : thresholds.lower,
+                            new Threshold(pick, PickOutcome.STOP_HIT, pick.getStopLoss()));
+                }
+            }
+            this.version = snapshot.getVersion();
+            this.bySymbol = Collections.unmodifiableMap(symbols);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.alert.PriceAlertThreshold;
+import com.stockpicks.backend.enums.AlertDirection;
+import com.stockpicks.backend.event.PriceAlertsChangedEvent;
+import com.stockpicks.backend.repository.PriceAlertRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory index of active price alert thresholds. Each symbol keeps two arrays sorted by
+ * price: ABOVE alerts, crossed by every threshold at or below the price, and BELOW alerts,
+ * crossed by every threshold at or above it. A tick therefore costs one binary search per
+ * array plus the crossed alerts, regardless of how many alerts are armed.
+ * <p>
+ * The index is copy-on-write: edits rebuild the affected symbol's arrays from the database
+ * and swap in a new map, so evaluation never locks. Edits made on other instances arrive
+ * as remote {@link PriceAlertsChangedEvent}s. The index only narrows the candidates: the
+ * trigger UPDATE re-checks each threshold against the price, so a stale entry cannot fire.
+ */
+@Component
+public class PriceAlertIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceAlertIndex.class);
+
+    @Autowired
+    private PriceAlertRepository priceAlertRepository;
+
+    private volatile Map<String, SymbolAlerts> bySymbol;
+
+    public Set<String> getSymbols() {
+        return current().keySet();
+    }
+
+    /** Ids of the active alerts on the symbol that the price has reached. */
+    public List<Long> findCrossed(String symbol, BigDecimal price) {
+        SymbolAlerts alerts = current().get(symbol);
+        if (alerts == null) {
+            return List.of();
+        }
+        List<Long> crossed = new ArrayList<>();
+        int aboveEnd = upperBound(alerts.aboveThresholds, price);
+        for (int i = 0; i < aboveEnd; i++) {
+            crossed.add(alerts.aboveIds[i]);
+        }
+        for (int i = lowerBound(alerts.belowThresholds, price); i < alerts.belowThresholds.length; i++) {
+            crossed.add(alerts.belowIds[i]);
+        }
+        return crossed;
+    }
+
+    public synchronized void reloadSymbol(String symbol) {
+        Map<String, SymbolAlerts> updated = new HashMap<>(current());
+        SymbolAlerts alerts = SymbolAlerts.of(priceAlertRepository.findActiveThresholdsBySymbol(symbol));
+        if (alerts == null) {
+            updated.remove(symbol);
+        } else {
+            updated.put(symbol, alerts);
+        }
+        bySymbol = Collections.unmodifiableMap(updated);
+    }
+
+    @EventListener
+    public void onPriceAlertsChanged(PriceAlertsChangedEvent event) {
+        for (String symbol : event.getSymbols()) {
+            try {
+                reloadSymbol(symbol);
+            } catch (Exception e) {
+                // The periodic full reload catches up
+                logger.error("Error reloading price alerts for {}: {}", symbol, e.getMessage());
+            }
+        }
+    }
+
+    // Also catches up on alert changes whose broadcast was missed
+    @Scheduled(fixedRateString = "#{${stock-picks.alerts.index.refresh.interval.minutes:10} * 60 * 1000}",
+            initialDelayString = "#{${stock-picks.alerts.index.refresh.interval.minutes:10} * 60 * 1000}")
+    public synchronized void reloadAll() {
+        try {
+            Map<String, List<PriceAlertThreshold>> grouped = new HashMap<>();
+            for (PriceAlertThreshold threshold : priceAlertRepository.findActiveThresholds()) {
+                grouped.computeIfAbsent(threshold.getSymbol(), symbol -> new ArrayList<>()).add(threshold);
+            }
+            Map<String, SymbolAlerts> rebuilt = new HashMap<>();
+            grouped.forEach((symbol, thresholds) -> rebuilt.put(symbol, SymbolAlerts.of(thresholds)));
+            bySymbol = Collections.unmodifiableMap(rebuilt);
+            logger.debug("Price alert index loaded for {} symbols", rebuilt.size());
+        } catch (Exception e) {
+            logger.error("Error loading price alert index: {}", e.getMessage(), e);
+        }
+    }
+
+    private Map<String, SymbolAlerts> current() {
+        Map<String, SymbolAlerts> current = bySymbol;
+        if (current == null) {
+            synchronized (this) {
+                if (bySymbol == null) {
+                    reloadAll();
+                }
+                current = bySymbol != null ? bySymbol : Map.of();
+            }
+        }
+        return current;
+    }
+
+    // First index whose threshold is greater than the price
+    static int upperBound(BigDecimal[] thresholds, BigDecimal price) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid].compareTo(price) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index whose threshold is greater than or equal to the price
+    static int lowerBound(BigDecimal[] thresholds, BigDecimal price) {
+        int low = 0;
+        int high = thresholds.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (thresholds[mid].compareTo(price) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class SymbolAlerts {
+        private final BigDecimal[] aboveThresholds;
+        private final long[] aboveIds;
+        private final BigDecimal[] belowThresholds;
+        private final long[] belowIds;
+
+        private SymbolAlerts(List<PriceAlertThreshold> above, List<PriceAlertThreshold> below) {
+            this.aboveThresholds = above.stream().map(PriceAlertThreshold::getTargetPrice).toArray(BigDecimal[]::new);
+            this.aboveIds = above.stream().mapToLong(PriceAlertThreshold::getId).toArray();
+            this.belowThresholds = below.stream().map(PriceAlertThreshold::getTargetPrice).toArray(BigDecimal[]::new);
+            this.belowIds = below.stream().mapToLong(PriceAlertThreshold::getId).toArray();
+        }
+
+        static SymbolAlerts of(List<PriceAlertThreshold> thresholds) {
+            if (thresholds.isEmpty()) {
+                return null;
+            }
+            List<PriceAlertThreshold> above = new ArrayList<>();
+            List<PriceAlertThreshold> below = new ArrayList<>();
+            for (PriceAlertThreshold threshold : thresholds) {
+                (threshold.getDirection() == AlertDirection.ABOVE ? above : below).add(threshold);
+            }
+            above.sort(Comparator.comparing(PriceAlertThreshold::getTargetPrice));
+            below.sort(Comparator.comparing(PriceAlertThreshold::getTargetPrice));
+            return new SymbolAlerts(above, below);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.alert.PriceAlertRequest;
+import com.stockpicks.backend.entity.PriceAlert;
+import com.stockpicks.backend.entity.User;
+import com.stockpicks.backend.event.PriceAlertsChangedEvent;
+import com.stockpicks.backend.event.QuotesRefreshedEvent;
+import com.stockpicks.backend.repository.PriceAlertRepository;
+import com.stockpicks.backend.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+@Service
+public class PriceAlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceAlertService.class);
+
+    @Autowired
+    private PriceAlertRepository priceAlertRepository;
+
+    @Autowired
+    private PriceAlertIndex priceAlertIndex;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${stock-picks.alerts.max-active-per-user:50}")
+    private int maxActiveAlertsPerUser;
+
+    // Alerts are evaluated on the scheduler thread that refreshed the quotes; emails are sent off it
+    private final ExecutorService notificationExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "price-alert-notifier");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PreDestroy
+    public void stopNotificationExecutor() {
+        notificationExecutor.shutdown();
+    }
+
+    public List<PriceAlert> getAlerts(String email) {
+        User user = userService.findByEmail(email);
+        return priceAlertRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+    }
+
+    public PriceAlert createAlert(String email, PriceAlertRequest request) {
+        User user = userService.findByEmail(email);
+        if (priceAlertRepository.countByUserIdAndIsActiveTrue(user.getId()) >= maxActiveAlertsPerUser) {
+            throw new IllegalArgumentException("You can have at most " + maxActiveAlertsPerUser + " active price alerts");
+        }
+
+        PriceAlert alert = new PriceAlert();
+        alert.setUserId(user.getId());
+        apply(alert, request);
+        PriceAlert savedAlert = priceAlertRepository.save(alert);
+        eventPublisher.publishEvent(new PriceAlertsChangedEvent(Set.of(savedAlert.getSymbol())));
+        return savedAlert;
+    }
+
+    /** Updates the alert and re-arms it, so a triggered alert can be reused for a new level. */
+    public PriceAlert updateAlert(String email, Long id, PriceAlertRequest request) {
+        User user = userService.findByEmail(email);
+        PriceAlert alert = priceAlertRepository.findByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> new RuntimeException("Price alert not found with id: " + id));
+        if (!Boolean.TRUE.equals(alert.getIsActive())
+                && priceAlertRepository.countByUserIdAndIsActiveTrue(user.getId()) >= maxActiveAlertsPerUser) {
+            throw new IllegalArgumentException("You can have at most " + maxActiveAlertsPerUser + " active price alerts");
+        }
+
+        String previousSymbol = alert.getSymbol();
+        apply(alert, request);
+        alert.setIsActive(true);
+        alert.setTriggeredAt(null);
+        alert.setTriggeredPrice(null);
+        PriceAlert savedAlert = priceAlertRepository.save(alert);
+        eventPublisher.publishEvent(new PriceAlertsChangedEvent(new HashSet<>(List.of(previousSymbol, savedAlert.getSymbol()))));
+        return savedAlert;
+    }
+
+    public void deleteAlert(String email, Long id) {
+        User user = userService.findByEmail(email);
+        PriceAlert alert = priceAlertRepository.findByIdAndUserId(id, user.getId())
+                .orElseThrow(() -> new RuntimeException("Price alert not found with id: " + id));
+        priceAlertRepository.delete(alert);
+        eventPublisher.publishEvent(new PriceAlertsChangedEvent(Set.of(alert.getSymbol())));
+    }
+
+    public Set<String> getWatchedSymbols() {
+        return priceAlertIndex.getSymbols();
+    }
+
+    @EventListener
+    public void onQuotesRefreshed(QuotesRefreshedEvent event) {
+        try {
+            evaluate(event.getQuotes(), event.getRefreshedAt());
+        } catch (Exception e) {
+            logger.error("Error evaluating price alerts: {}", e.getMessage(), e);
+        }
+    }
+
+    public List<Long> evaluate(List<QuotesRefreshedEvent.SymbolQuote> quotes, LocalDateTime observedAt) {
+        List<Long> triggeredIds = new ArrayList<>();
+        Set<String> triggeredSymbols = new HashSet<>();
+        for (QuotesRefreshedEvent.SymbolQuote quote : quotes) {
+            List<Long> crossed = priceAlertIndex.findCrossed(quote.getSymbol(), quote.getPrice());
+            if (crossed.isEmpty()) {
+                continue;
+            }
+            List<Long> triggered = priceAlertRepository.triggerAlerts(crossed, quote.getPrice(), observedAt);
+            if (!triggered.isEmpty()) {
+                triggeredIds.addAll(triggered);
+                triggeredSymbols.add(quote.getSymbol());
+            }
+        }
+        if (triggeredIds.isEmpty()) {
+            return triggeredIds;
+        }
+
+        eventPublisher.publishEvent(new PriceAlertsChangedEvent(triggeredSymbols));
+        logger.info("Triggered {} price alerts across {} symbols", triggeredIds.size(), triggeredSymbols.size());
+        notifyUsers(priceAlertRepository.findAllById(triggeredIds));
+        return triggeredIds;
+    }
+
+    private void notifyUsers(List<PriceAlert> alerts) {
+        Map<Long, List<PriceAlert>> alertsByUser = alerts.stream().collect(Collectors.groupingBy(PriceAlert::getUserId));
+        notificationExecutor.execute(() -> {
+            try {
+                for (User user : userRepository.findAllById(alertsByUser.keySet())) {
+                    try {
+                        emailService.sendPriceAlertNotification(user, alertsByUser.get(user.getId()));
+                    } catch (Exception e) {
+                        logger.error("Error sending price alert email to user {}: {}", user.getId(), e.getMessage());
+                    }
+                }
+            } catch (Exception e) {
+                logger.error("Error notifying users of triggered price alerts: {}", e.getMessage(), e);
+            }
+        });
+    }
+
+    private void apply(PriceAlert alert, PriceAlertRequest request) {
+        if (request.getSymbol() == null || request.getSymbol().isBlank()) {
+            throw new IllegalArgumentException("Symbol is required");
+        }
+        if (request.getDirection() == null) {
+            throw new IllegalArgumentException("Direction is required");
+        }
+        if (request.getTargetPrice() == null || request.getTargetPrice().signum() <= 0) {
+            throw new IllegalArgumentException("Target price must be positive");
+        }
+        alert.setSymbol(request.getSymbol().trim().toUpperCase());
+        alert.setDirection(request.getDirection());
+        alert.setTargetPrice(request.getTargetPrice());
+    }
+}
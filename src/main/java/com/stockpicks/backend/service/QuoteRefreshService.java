@@ -0,0 +1,93 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.event.QuotesRefreshedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Periodically refreshes quotes for the symbols of active picks that have a target or
+ * stop-loss and for symbols with armed price alerts, and publishes them for evaluation.
+ */
+@Service
+public class QuoteRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuoteRefreshService.class);
+
+    private static final String REFRESH_JOB = "quote-refresh";
+
+    @Autowired
+    private YahooFinanceService yahooFinanceService;
+
+    @Autowired
+    private PickOutcomeEvaluator pickOutcomeEvaluator;
+
+    @Autowired
+    private PriceAlertService priceAlertService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${stock-picks.quotes.refresh.enabled:true}")
+    private boolean refreshEnabled;
+
+    @Value("${stock-picks.quotes.refresh.interval.minutes:5}")
+    private long refreshIntervalMinutes;
+
+    @Scheduled(fixedRateString = "#{${stock-picks.quotes.refresh.interval.minutes:5} * 60 * 1000}",
+            initialDelayString = "#{${stock-picks.quotes.refresh.interval.minutes:5} * 60 * 1000}")
+    public void refreshActivePickQuotes() {
+        if (!refreshEnabled) {
+            return;
+        }
+        // One instance fetches quotes per interval; the outcomes and alerts it finds are stored in the database
+        if (jobLeaseService.tryAcquire(REFRESH_JOB, Duration.ofMinutes(refreshIntervalMinutes)).isEmpty()) {
+            logger.debug("Skipping quote refresh - another instance holds the refresh lease");
+            return;
+        }
+
+        Set<String> symbols = new TreeSet<>(pickOutcomeEvaluator.getWatchedSymbols());
+        symbols.addAll(priceAlertService.getWatchedSymbols());
+
+        List<QuotesRefreshedEvent.SymbolQuote> quotes = new ArrayList<>();
+        for (String symbol : symbols) {
+            try {
+                Map<String, Object> quote = yahooFinanceService.refreshStockQuote(symbol);
+                BigDecimal price = toPrice(quote.get("c"));
+                if (price != null) {
+                    quotes.add(new QuotesRefreshedEvent.SymbolQuote(symbol, price, toPrice(quote.get("h")), toPrice(quote.get("l"))));
+                }
+            } catch (Exception e) {
+                logger.warn("Error refreshing quote for {}: {}", symbol, e.getMessage());
+            }
+        }
+
+        if (!quotes.isEmpty()) {
+            logger.debug("Refreshed quotes for {} symbols", quotes.size());
+            eventPublisher.publishEvent(new QuotesRefreshedEvent(quotes, LocalDateTime.now()));
+        }
+    }
+
+    private BigDecimal toPrice(Object value) {
+        if (value instanceof Number number) {
+            return new BigDecimal(number.toString());
+        }
+        return null;
+    }
+}
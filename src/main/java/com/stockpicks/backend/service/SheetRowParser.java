@@ -0,0 +1,183 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.stockpick.StockPickKey;
+import com.stockpicks.backend.entity.StockPick;
+import com.stockpicks.backend.enums.PickType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Parses Google Sheets rows (Date, Symbol, Company Name, Pick Type, Entry Price, Commentary,
+ * Current Price, Target Price) into stock picks. Large backfills spend most of their CPU
+ * here, so the date format is picked from the shape of the value instead of trying each
+ * format in turn, prices are read character by character, and well-formed values never
+ * throw. Unparseable dates fall back to the current time and unparseable prices to zero.
+ */
+@Component
+public class SheetRowParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(SheetRowParser.class);
+
+    private static final DateTimeFormatter US_DATE = DateTimeFormatter.ofPattern("M/d/yyyy");
+    private static final DateTimeFormatter US_SHORT_DATE = DateTimeFormatter.ofPattern("M/d/yy");
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    // Unscaled values up to 18 digits always fit in a long
+    private static final int MAX_FAST_PRICE_DIGITS = 18;
+
+    public boolean isHeaderRow(List<Object> row) {
+        return containsIgnoreCase(row.get(0).toString(), "date") || containsIgnoreCase(row.get(1).toString(), "symbol");
+    }
+
+    // The row's (symbol, type, day) key, read without building the entity; null for the header row
+    public StockPickKey parseKey(List<Object> row) {
+        if (isHeaderRow(row)) {
+            return null;
+        }
+        return new StockPickKey(row.get(1).toString().toUpperCase().trim(),
+                PickType.valueOf(row.get(3).toString().toUpperCase().trim()),
+                parseDate(row.get(0).toString()).toLocalDate());
+    }
+
+    /**
+     * Builds the pick for a data row; null for the header row. Throws
+     * IllegalArgumentException for an unknown pick type.
+     */
+    public StockPick parse(List<Object> row) {
+        if (isHeaderRow(row)) {
+            return null;
+        }
+        StockPick stockPick = new StockPick();
+        stockPick.setPickDate(parseDate(row.get(0).toString()));
+        stockPick.setSymbol(row.get(1).toString().toUpperCase().trim());
+        stockPick.setCompanyName(row.get(2).toString().trim());
+        stockPick.setPickType(PickType.valueOf(row.get(3).toString().toUpperCase().trim()));
+        stockPick.setEntryPrice(parsePrice(row.get(4).toString()));
+        stockPick.setCommentary(row.size() > 5 ? row.get(5).toString().trim() : "");
+
+        if (row.size() > 6 && !row.get(6).toString().trim().isEmpty()) {
+            stockPick.setCurrentPrice(parsePrice(row.get(6).toString()));
+        }
+        if (row.size() > 7 && !row.get(7).toString().trim().isEmpty()) {
+            stockPick.setTargetPrice(parsePrice(row.get(7).toString()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        stockPick.setCreatedAt(now);
+        stockPick.setUpdatedAt(now);
+        return stockPick;
+    }
+
+    /** Parses M/d/yyyy, M/d/yy (including zero-padded forms) and yyyy-MM-dd dates to midnight. */
+    public LocalDateTime parseDate(String value) {
+        String date = value.trim();
+        DateTimeFormatter format = sniffDateFormat(date);
+        if (format != null) {
+            try {
+                return LocalDate.parse(date, format).atStartOfDay();
+            } catch (DateTimeParseException e) {
+                // Right shape but not a date, e.g. 13/45/2024
+            }
+        }
+        logger.warn("Could not parse date: {}, using current time", value);
+        return LocalDateTime.now();
+    }
+
+    /** Parses a price, ignoring "$", "," and spaces. */
+    public BigDecimal parsePrice(String value) {
+        BigDecimal price = parsePlainPrice(value);
+        if (price != null) {
+            return price;
+        }
+        // Exponents, very long values and malformed input take the general path
+        try {
+            return new BigDecimal(value.trim().replace("$", "").replace(",", "").replace(" ", ""));
+        } catch (NumberFormatException e) {
+            logger.error("Error parsing price: {}", value);
+            return BigDecimal.ZERO;
+        }
+    }
+
+    private static DateTimeFormatter sniffDateFormat(String date) {
+        int length = date.length();
+        if (length == 10 && date.charAt(4) == '-' && date.charAt(7) == '-') {
+            return ISO_DATE;
+        }
+        int firstSlash = date.indexOf('/');
+        int lastSlash = date.lastIndexOf('/');
+        if (firstSlash < 1 || firstSlash == lastSlash) {
+            return null;
+        }
+        int yearDigits = length - lastSlash - 1;
+        if (yearDigits == 2) {
+            return US_SHORT_DATE;
+        }
+        return yearDigits >= 4 ? US_DATE : null;
+    }
+
+    // An optionally signed decimal with "$", "," and spaces ignored; null if the value has any other shape
+    private static BigDecimal parsePlainPrice(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        long unscaled = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean negative = false;
+        boolean signed = false;
+        boolean decimalPoint = false;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > MAX_FAST_PRICE_DIGITS) {
+                    return null;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (decimalPoint) {
+                    scale++;
+                }
+            } else if (c == '.') {
+                if (decimalPoint) {
+                    return null;
+                }
+                decimalPoint = true;
+            } else if (c == '-' || c == '+') {
+                if (signed || digits > 0 || decimalPoint) {
+                    return null;
+                }
+                signed = true;
+                negative = c == '-';
+            } else if (c != '$' && c != ',' && c != ' ') {
+                return null;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+
+    private static boolean containsIgnoreCase(String value, String lowerCaseTerm) {
+        int last = value.length() - lowerCaseTerm.length();
+        for (int i = 0; i <= last; i++) {
+            if (value.regionMatches(true, i, lowerCaseTerm, 0, lowerCaseTerm.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
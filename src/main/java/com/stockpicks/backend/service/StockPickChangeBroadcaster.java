@@ -0,0 +1,231 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.event.PriceAlertsChangedEvent;
+import com.stockpicks.backend.event.StockPicksChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Relays pick changes between instances over Postgres LISTEN/NOTIFY. Scheduled jobs run
+ * only on the lease holder, so without this the read model, change feed and outcome
+ * evaluator of every other instance would only see their changes on the periodic rebuild.
+ * Price alert edits are relayed the same way, so the alert index on the lease holder,
+ * which evaluates quotes, sees alerts edited through any instance.
+ * NOTIFY is transactional: it is issued before the writing transaction commits and only
+ * delivered if it does. Each instance listens on its own connection, outside the pool, and
+ * re-publishes changes from other instances as remote {@link StockPicksChangedEvent}s and
+ * {@link PriceAlertsChangedEvent}s.
+ */
+@Service
+public class StockPickChangeBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockPickChangeBroadcaster.class);
+
+    private static final String PICK_CHANNEL = "stock_pick_changes";
+
+    private static final String ALERT_CHANNEL = "price_alert_changes";
+
+    // Postgres caps a NOTIFY payload at 8000 bytes; larger id lists are split across notifications
+    private static final int MAX_PAYLOAD_LENGTH = 7000;
+
+    private static final long POLL_TIMEOUT_MS = 10_000;
+
+    private static final long RECONNECT_DELAY_MS = 5_000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private StockPickReadModel stockPickReadModel;
+
+    @Autowired
+    private PriceAlertIndex priceAlertIndex;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${stock-picks.change-broadcast.enabled:true}")
+    private boolean enabled;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username:postgres}")
+    private String username;
+
+    @Value("${spring.datasource.password:}")
+    private String password;
+
+    private volatile boolean running;
+
+    private Thread listenerThread;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onStockPicksChanged(StockPicksChangedEvent event) {
+        if (!enabled || event.isRemote()) {
+            return;
+        }
+        try {
+            for (String payload : payloads(event)) {
+                sendNotification(PICK_CHANNEL, payload);
+            }
+        } catch (Exception e) {
+            // Other instances still catch up on their periodic read model rebuild
+            logger.error("Error broadcasting {} of {} stock picks: {}", event.getChangeType(), event.getPickIds().size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onPriceAlertsChanged(PriceAlertsChangedEvent event) {
+        if (!enabled || event.isRemote() || event.getSymbols().isEmpty()) {
+            return;
+        }
+        try {
+            // origin|symbol,symbol,...; an edit touches at most two symbols
+            sendNotification(ALERT_CHANNEL, jobLeaseService.getOwner() + "|" + String.join(",", event.getSymbols()));
+        } catch (Exception e) {
+            // Other instances still catch up on their periodic alert index reload
+            logger.error("Error broadcasting price alert changes for {}: {}", event.getSymbols(), e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startListening() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        listenerThread = new Thread(this::listen, "stock-pick-change-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stopListening() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        boolean reconnecting = false;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + PICK_CHANNEL);
+                    statement.execute("LISTEN " + ALERT_CHANNEL);
+                }
+                logger.info("Listening for stock pick changes from other instances");
+                if (reconnecting) {
+                    // Notifications sent while disconnected are lost
+                    stockPickReadModel.rebuild(false);
+                    priceAlertIndex.reloadAll();
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) POLL_TIMEOUT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            if (ALERT_CHANNEL.equals(notification.getName())) {
+                                receiveAlertChange(notification.getParameter());
+                            } else {
+                                receive(notification.getParameter());
+                            }
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Stock pick change listener disconnected: {}; reconnecting", e.getMessage());
+            }
+            reconnecting = true;
+            try {
+                Thread.sleep(RECONNECT_DELAY_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        // origin|changeType|id,id,...
+        String[] parts = payload.split("\\|", 3);
+        if (parts.length < 3 || parts[0].equals(jobLeaseService.getOwner())) {
+            return;
+        }
+        try {
+            List<Long> pickIds = new ArrayList<>();
+            for (String id : parts[2].split(",")) {
+                if (!id.isEmpty()) {
+                    pickIds.add(Long.valueOf(id));
+                }
+            }
+            eventPublisher.publishEvent(new StockPicksChangedEvent(StockPicksChangedEvent.ChangeType.valueOf(parts[1]), pickIds, true));
+        } catch (Exception e) {
+            logger.error("Error applying stock pick change from {}: {}", parts[0], e.getMessage(), e);
+        }
+    }
+
+    private void receiveAlertChange(String payload) {
+        // origin|symbol,symbol,...
+        String[] parts = payload.split("\\|", 2);
+        if (parts.length < 2 || parts[0].equals(jobLeaseService.getOwner())) {
+            return;
+        }
+        try {
+            eventPublisher.publishEvent(new PriceAlertsChangedEvent(new HashSet<>(Arrays.asList(parts[1].split(","))), true));
+        } catch (Exception e) {
+            logger.error("Error applying price alert change from {}: {}", parts[0], e.getMessage(), e);
+        }
+    }
+
+    private void sendNotification(String channel, String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", resultSet -> null, channel, payload);
+    }
+
+    private List<String> payloads(StockPicksChangedEvent event) {
+        String prefix = jobLeaseService.getOwner() + "|" + event.getChangeType().name() + "|";
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(prefix);
+        for (Long id : event.getPickIds()) {
+            String item = String.valueOf(id);
+            if (payload.length() > prefix.length() && payload.length() + 1 + item.length() > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(prefix);
+            }
+            if (payload.length() > prefix.length()) {
+                payload.append(',');
+            }
+            payload.append(item);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+}
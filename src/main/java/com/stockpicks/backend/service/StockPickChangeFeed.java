@@ -0,0 +1,172 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.stockpick.StockPickChange;
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.event.StockPicksChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes pick created/updated/deleted events to connected clients over Server-Sent Events.
+ * Every change gets a sequence number, and the most recent changes are kept in a bounded
+ * buffer so a reconnecting client can resume from its Last-Event-ID instead of re-polling
+ * the full list. Sequences restart with the process and differ between instances, so the
+ * SSE event id is "epoch-sequence" with an epoch drawn at startup; an id from another
+ * epoch (a restart, or a reconnect that lands on another instance) gets a reset event.
+ */
+@Service
+public class StockPickChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockPickChangeFeed.class);
+
+    @Autowired
+    private StockPickReadModel stockPickReadModel;
+
+    @Value("${stock-picks.change-feed.replay.size:500}")
+    private int replaySize;
+
+    @Value("${stock-picks.change-feed.timeout.minutes:30}")
+    private long timeoutMinutes;
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    // Guarded by itself; also orders sequence assignment against subscriber registration
+    private final Deque<StockPickChange> replayBuffer = new ArrayDeque<>();
+
+    private long sequence = 0;
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMinutes * 60 * 1000);
+        emitter.onCompletion(() -> emitters.remove(emitter));
+        emitter.onTimeout(() -> emitters.remove(emitter));
+        emitter.onError(error -> emitters.remove(emitter));
+
+        synchronized (replayBuffer) {
+            try {
+                replay(emitter, parseLastEventId(lastEventId));
+            } catch (IOException e) {
+                emitter.completeWithError(e);
+                return emitter;
+            }
+            emitters.add(emitter);
+        }
+        return emitter;
+    }
+
+    // Runs after the read model has rebuilt, so created and updated picks can be looked up there
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onStockPicksChanged(StockPicksChangedEvent event) {
+        List<StockPickSummary> picks = new ArrayList<>();
+        if (event.getChangeType() != StockPicksChangedEvent.ChangeType.DELETED) {
+            StockPickReadModel.Snapshot snapshot = stockPickReadModel.current();
+            event.getPickIds().stream().map(snapshot::byId).filter(Objects::nonNull).forEach(picks::add);
+        }
+
+        List<SseEmitter> recipients;
+        StockPickChange change;
+        synchronized (replayBuffer) {
+            change = new StockPickChange(++sequence, event.getChangeType().name(), event.getPickIds(), picks, LocalDateTime.now());
+            replayBuffer.addLast(change);
+            while (replayBuffer.size() > replaySize) {
+                replayBuffer.removeFirst();
+            }
+            recipients = new ArrayList<>(emitters);
+        }
+
+        for (SseEmitter emitter : recipients) {
+            send(emitter, change);
+        }
+    }
+
+    @Scheduled(fixedRate = 30000)
+    public void sendHeartbeat() {
+        // Comments are ignored by EventSource clients but surface dead connections
+        for (SseEmitter emitter : emitters) {
+            try {
+                emitter.send(SseEmitter.event().comment("keepalive"));
+            } catch (IOException | IllegalStateException e) {
+                emitters.remove(emitter);
+            }
+        }
+    }
+
+    public int getSubscriberCount() {
+        return emitters.size();
+    }
+
+    private void replay(SseEmitter emitter, Long lastEventId) throws IOException {
+        if (lastEventId == null) {
+            return;
+        }
+        StockPickChange oldest = replayBuffer.peekFirst();
+        boolean gap = oldest != null ? lastEventId < oldest.getSequence() - 1 : lastEventId < sequence;
+        if (gap || lastEventId > sequence) {
+            // Missed changes are no longer buffered, or the id is from another epoch: the client must refetch
+            emitter.send(SseEmitter.event().name("reset").id(eventId(sequence)).data("reset"));
+            return;
+        }
+        for (StockPickChange change : replayBuffer) {
+            if (change.getSequence() > lastEventId) {
+                emitter.send(toEvent(change));
+            }
+        }
+    }
+
+    private void send(SseEmitter emitter, StockPickChange change) {
+        try {
+            emitter.send(toEvent(change));
+        } catch (IOException | IllegalStateException e) {
+            logger.debug("Dropping stock pick change feed subscriber: {}", e.getMessage());
+            emitters.remove(emitter);
+        }
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(StockPickChange change) {
+        return SseEmitter.event()
+                .id(eventId(change.getSequence()))
+                .name(change.getType().toLowerCase())
+                .data(change, MediaType.APPLICATION_JSON);
+    }
+
+    private String eventId(long changeSequence) {
+        return epoch + "-" + changeSequence;
+    }
+
+    // The sequence of an id from this epoch; -1, which always forces a reset, for any other id
+    private Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        String id = lastEventId.trim();
+        if (!id.startsWith(epoch + "-")) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(id.substring(epoch.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.stockpicks.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over stock picks ordered by
+ * (pickDate DESC, id DESC). The token encodes the last row of the previous page.
+ */
+public final class StockPickCursor {
+
+    /** Cursor positioned before the newest pick, used for the first page. */
+    public static final StockPickCursor START = new StockPickCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime pickDate;
+    private final Long id;
+
+    public StockPickCursor(LocalDateTime pickDate, Long id) {
+        this.pickDate = pickDate;
+        this.id = id;
+    }
+
+    public LocalDateTime getPickDate() {
+        return pickDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = pickDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}; a null or blank token yields {@link #START}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static StockPickCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new StockPickCursor(LocalDateTime.parse(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.stockpicks.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockpicks.backend.entity.StockPick;
+import com.stockpicks.backend.repository.StockPickRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Writes the pick archive to an output stream row by row while it is read from a
+ * server-side cursor, so memory use does not depend on the size of the archive.
+ */
+@Service
+public class StockPickExportService {
+
+    private static final String CSV_HEADER = "id,pick_date,symbol,company_name,pick_type,entry_price,target_price,stop_loss,current_price,is_active,commentary";
+
+    // Push rows to the client periodically instead of only when the buffer fills up
+    private static final int FLUSH_EVERY_ROWS = 500;
+
+    @Autowired
+    private StockPickRepository stockPickRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public void writeCsv(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        streamPicks(writer, pick -> {
+            writer.write(String.valueOf(pick.getId()));
+            writer.write(',');
+            writer.write(String.valueOf(pick.getPickDate()));
+            writer.write(',');
+            writer.write(csv(pick.getSymbol()));
+            writer.write(',');
+            writer.write(csv(pick.getCompanyName()));
+            writer.write(',');
+            writer.write(pick.getPickType() != null ? pick.getPickType().name() : "");
+            writer.write(',');
+            writer.write(csv(pick.getEntryPrice()));
+            writer.write(',');
+            writer.write(csv(pick.getTargetPrice()));
+            writer.write(',');
+            writer.write(csv(pick.getStopLoss()));
+            writer.write(',');
+            writer.write(csv(pick.getCurrentPrice()));
+            writer.write(',');
+            writer.write(csv(pick.getIsActive()));
+            writer.write(',');
+            writer.write(csv(pick.getCommentary()));
+            writer.write('\n');
+        });
+    }
+
+    public void writeNdjson(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        streamPicks(writer, pick -> {
+            writer.write(objectMapper.writeValueAsString(pick));
+            writer.write('\n');
+        });
+    }
+
+    private void streamPicks(Writer writer, RowWriter rowWriter) throws IOException {
+        // The cursor only honours the fetch size inside a transaction (autocommit off)
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<StockPick> picks = stockPickRepository.streamAllForExport()) {
+                    int[] rows = {0};
+                    picks.forEach(pick -> {
+                        try {
+                            rowWriter.write(pick);
+                            // Keep the persistence context from accumulating every exported row
+                            entityManager.detach(pick);
+                            if (++rows[0] % FLUSH_EVERY_ROWS == 0) {
+                                writer.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(StockPick pick) throws IOException;
+    }
+}
@@ -0,0 +1,485 @@
+package com.stockpicks.backend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.stockpicks.backend.dto.stockpick.BulkImportResponse;
+import com.stockpicks.backend.dto.stockpick.ImportRowError;
+import com.stockpicks.backend.dto.stockpick.StockPickKey;
+import com.stockpicks.backend.entity.StockPick;
+import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.event.StockPicksChangedEvent;
+import com.stockpicks.backend.repository.StockPickRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.apache.poi.openxml4j.exceptions.NotOfficeXmlFileException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.ss.util.NumberToTextConverter;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bulk loading of stock picks. Rows are validated in a single streaming pass and written
+ * in batches: each batch is de-duplicated against the database with one key query and
+ * inserted in one transaction, which Hibernate sends as batched JDBC statements.
+ */
+@Service
+public class StockPickImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockPickImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final DateTimeFormatter[] DATE_FORMATS = {
+            DateTimeFormatter.ofPattern("M/d/yyyy"),
+            DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+            DateTimeFormatter.ofPattern("M/d/yy")
+    };
+
+    @Autowired
+    private StockPickRepository stockPickRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${stock-picks.import.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Imports CSV using the Google Sheets column layout: Date, Symbol, Company Name,
+     * Pick Type, Entry Price, Commentary, Current Price, Target Price.
+     */
+    public BulkImportResponse importCsv(InputStream inputStream) throws IOException {
+        ImportSession session = openSession();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        List<String> cells;
+        int rowNumber = 0;
+        while ((cells = readCsvRecord(reader)) != null) {
+            session.addCells(++rowNumber, cells);
+        }
+        return session.finish();
+    }
+
+    /**
+     * Imports a JSON array of pick objects shaped like the body of POST /api/stock-picks.
+     * The array is read element by element, never as a whole.
+     */
+    public BulkImportResponse importJson(InputStream inputStream) throws IOException {
+        ImportSession session = openSession();
+        int rowNumber = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of stock picks");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                rowNumber++;
+                JsonNode node = objectMapper.readTree(parser);
+                try {
+                    session.addPick(rowNumber, objectMapper.treeToValue(node, StockPick.class));
+                } catch (JsonProcessingException e) {
+                    session.reject(rowNumber, "Invalid stock pick: " + e.getOriginalMessage());
+                }
+            }
+        } catch (JsonProcessingException e) {
+            // Rows before the syntax error have been imported; report where the input broke off
+            session.reject(rowNumber + 1, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        return session.finish();
+    }
+
+    /**
+     * Imports the first worksheet of an .xlsx workbook using the Google Sheets column layout.
+     * The sheet XML is read with POI's SAX event model straight from the zip file, so apart
+     * from the shared string table only the current row is held in memory. Date cells are
+     * read by value and numbers at full precision, whatever their display format.
+     */
+    public BulkImportResponse importXlsx(File file) throws IOException {
+        ImportSession session = openSession();
+        WorkbookRowHandler rowHandler = new WorkbookRowHandler(session);
+        try (OPCPackage workbook = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(workbook);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(workbook);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new IllegalArgumentException("Workbook has no worksheets");
+            }
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null, strings,
+                    rowHandler, new CellValueFormatter(), false));
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
+            } catch (SAXException e) {
+                // Rows before the damaged XML have been imported; report where the sheet broke off
+                session.reject(rowHandler.rowNumber + 1, "Malformed worksheet: " + e.getMessage());
+            }
+        } catch (NotOfficeXmlFileException e) {
+            throw new IllegalArgumentException("Only .xlsx workbooks can be imported; save .xls files as .xlsx first");
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IllegalArgumentException("Unreadable workbook: " + e.getMessage());
+        }
+        return session.finish();
+    }
+
+    public ImportSession openSession() {
+        return new ImportSession();
+    }
+
+    /**
+     * Accumulates validated rows for one import and writes them batch by batch.
+     * Not thread-safe; one session serves one input.
+     */
+    public class ImportSession {
+        private final List<PendingRow> pending = new ArrayList<>();
+        private final Set<StockPickKey> seenKeys = new HashSet<>();
+        private final List<Long> importedIds = new ArrayList<>();
+        private final List<ImportRowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int duplicates;
+        private int failed;
+        private boolean errorsTruncated;
+
+        /** Adds a row of raw cells in the sheet column layout; header and blank rows are skipped. */
+        public void addCells(int rowNumber, List<String> cells) {
+            if (isBlankRow(cells) || isHeaderRow(cells)) {
+                return;
+            }
+            totalRows++;
+            try {
+                queue(rowNumber, parseCells(cells));
+            } catch (IllegalArgumentException e) {
+                fail(rowNumber, e.getMessage());
+            }
+        }
+
+        public void addPick(int rowNumber, StockPick stockPick) {
+            totalRows++;
+            String problem = validate(stockPick);
+            if (problem != null) {
+                fail(rowNumber, problem);
+                return;
+            }
+            stockPick.setId(null);
+            stockPick.setSymbol(stockPick.getSymbol().trim().toUpperCase());
+            queue(rowNumber, stockPick);
+        }
+
+        /** Records a row that could not be read at all. */
+        public void reject(int rowNumber, String message) {
+            totalRows++;
+            fail(rowNumber, message);
+        }
+
+        public BulkImportResponse finish() {
+            flush();
+            if (!importedIds.isEmpty()) {
+                eventPublisher.publishEvent(new StockPicksChangedEvent(StockPicksChangedEvent.ChangeType.CREATED, importedIds));
+            }
+            logger.info("Stock pick import finished: {} rows, {} imported, {} duplicates, {} failed",
+                    totalRows, importedIds.size(), duplicates, failed);
+            return new BulkImportResponse(totalRows, importedIds.size(), duplicates, failed, errors, errorsTruncated);
+        }
+
+        private void queue(int rowNumber, StockPick stockPick) {
+            LocalDateTime now = LocalDateTime.now();
+            stockPick.setCreatedAt(now);
+            stockPick.setUpdatedAt(now);
+            pending.add(new PendingRow(rowNumber, stockPick));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            LocalDate fromDay = null;
+            LocalDate toDay = null;
+            for (PendingRow row : pending) {
+                LocalDate day = row.stockPick.getPickDate().toLocalDate();
+                fromDay = fromDay == null || day.isBefore(fromDay) ? day : fromDay;
+                toDay = toDay == null || day.isAfter(toDay) ? day : toDay;
+            }
+            Set<StockPickKey> existingKeys = new HashSet<>(stockPickRepository.findKeysByPickDayBetween(fromDay, toDay));
+
+            List<PendingRow> toInsert = new ArrayList<>();
+            for (PendingRow row : pending) {
+                StockPickKey key = keyOf(row.stockPick);
+                if (existingKeys.contains(key) || !seenKeys.add(key)) {
+                    duplicates++;
+                    addError(row.rowNumber, "Duplicate pick: " + key.getSymbol() + " " + key.getPickType() + " on " + key.getPickDay());
+                } else {
+                    toInsert.add(row);
+                }
+            }
+            pending.clear();
+
+            if (toInsert.isEmpty()) {
+                return;
+            }
+            try {
+                TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+                transactionTemplate.executeWithoutResult(status -> {
+                    stockPickRepository.saveAll(toInsert.stream().map(row -> row.stockPick).toList());
+                    stockPickRepository.flush();
+                    // Entities are not needed after the insert; keep the persistence context small
+                    entityManager.clear();
+                });
+                toInsert.forEach(row -> importedIds.add(row.stockPick.getId()));
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Stock pick import batch rejected by a concurrent insert: {}", e.getMostSpecificCause().getMessage());
+                for (PendingRow row : toInsert) {
+                    seenKeys.remove(keyOf(row.stockPick));
+                    fail(row.rowNumber, "Conflicted with a pick inserted concurrently; retry the import");
+                }
+            }
+        }
+
+        private void fail(int rowNumber, String message) {
+            failed++;
+            addError(rowNumber, message);
+        }
+
+        private void addError(int rowNumber, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ImportRowError(rowNumber, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+
+    /** Collects one worksheet row at a time, padding the cells the sheet XML leaves out. */
+    private static class WorkbookRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+        private final ImportSession session;
+        private final List<String> cells = new ArrayList<>();
+        private int rowNumber;
+
+        WorkbookRowHandler(ImportSession session) {
+            this.session = session;
+        }
+
+        @Override
+        public void startRow(int rowIndex) {
+            rowNumber = rowIndex + 1;
+            cells.clear();
+        }
+
+        @Override
+        public void endRow(int rowIndex) {
+            session.addCells(rowNumber, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : cells.size();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue != null ? formattedValue : "");
+        }
+    }
+
+    // Date cells become ISO dates and other numbers keep full precision instead of their display format
+    private static class CellValueFormatter extends DataFormatter {
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return NumberToTextConverter.toText(value);
+        }
+    }
+
+    private static class PendingRow {
+        private final int rowNumber;
+        private final StockPick stockPick;
+
+        PendingRow(int rowNumber, StockPick stockPick) {
+            this.rowNumber = rowNumber;
+            this.stockPick = stockPick;
+        }
+    }
+
+    private StockPickKey keyOf(StockPick stockPick) {
+        return new StockPickKey(stockPick.getSymbol(), stockPick.getPickType(), stockPick.getPickDate().toLocalDate());
+    }
+
+    private String validate(StockPick stockPick) {
+        if (stockPick.getSymbol() == null || stockPick.getSymbol().isBlank()) {
+            return "Symbol is required";
+        }
+        if (stockPick.getPickType() == null) {
+            return "Pick type is required";
+        }
+        if (stockPick.getPickDate() == null) {
+            return "Pick date is required";
+        }
+        if (stockPick.getEntryPrice() == null) {
+            return "Entry price is required";
+        }
+        return null;
+    }
+
+    private StockPick parseCells(List<String> cells) {
+        if (cells.size() < 5) {
+            throw new IllegalArgumentException("Expected at least 5 columns (Date, Symbol, Company Name, Pick Type, Entry Price)");
+        }
+
+        StockPick stockPick = new StockPick();
+        stockPick.setPickDate(parseDate(cells.get(0)));
+
+        String symbol = cells.get(1).trim().toUpperCase();
+        if (symbol.isEmpty()) {
+            throw new IllegalArgumentException("Symbol is required");
+        }
+        stockPick.setSymbol(symbol);
+        stockPick.setCompanyName(cells.get(2).trim());
+
+        String pickType = cells.get(3).trim().toUpperCase();
+        try {
+            stockPick.setPickType(PickType.valueOf(pickType));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown pick type: " + pickType);
+        }
+
+        stockPick.setEntryPrice(parsePrice(cells.get(4), "entry price"));
+        stockPick.setCommentary(cells.size() > 5 ? cells.get(5).trim() : "");
+        if (cells.size() > 6 && !cells.get(6).isBlank()) {
+            stockPick.setCurrentPrice(parsePrice(cells.get(6), "current price"));
+        }
+        if (cells.size() > 7 && !cells.get(7).isBlank()) {
+            stockPick.setTargetPrice(parsePrice(cells.get(7), "target price"));
+        }
+        return stockPick;
+    }
+
+    private LocalDateTime parseDate(String value) {
+        String date = value.trim();
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(date, format).atStartOfDay();
+            } catch (DateTimeParseException ignored) {
+                // Try next format
+            }
+        }
+        throw new IllegalArgumentException("Unrecognized date: " + value);
+    }
+
+    private BigDecimal parsePrice(String value, String field) {
+        try {
+            return new BigDecimal(value.trim().replace("$", "").replace(",", "").replace(" ", ""));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + field + ": " + value);
+        }
+    }
+
+    private boolean isHeaderRow(List<String> cells) {
+        return cells.size() > 1
+                && (cells.get(0).toLowerCase().contains("date") || cells.get(1).toLowerCase().contains("symbol"));
+    }
+
+    private boolean isBlankRow(List<String> cells) {
+        for (String cell : cells) {
+            if (cell != null && !cell.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads one RFC 4180 record; quoted fields may contain commas, doubled quotes and
+     * line breaks. Returns null at end of input.
+     */
+    static List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        boolean readAny = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            readAny = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        cell.append('"');
+                    } else {
+                        quoted = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                    }
+                } else {
+                    cell.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                cell.append((char) c);
+            }
+        }
+        if (!readAny) {
+            return null;
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+}
@@ -0,0 +1,76 @@
+package com.stockpicks.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.IsoFields;
+import java.util.Optional;
+
+/**
+ * Keeps quarterly stock_picks partitions created ahead of time, so new picks land in
+ * their own quarter rather than the default partition. The partitioning itself and the
+ * create_stock_picks_partition function come from add-stock-pick-partitions.sql.
+ */
+@Service
+public class StockPickPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockPickPartitionMaintenance.class);
+
+    private static final String MAINTENANCE_JOB = "stock-pick-partition-maintenance";
+
+    private static final Duration LEASE_TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JobLeaseService jobLeaseService;
+
+    @Value("${stock-picks.partitions.maintenance.enabled:true}")
+    private boolean maintenanceEnabled;
+
+    @Value("${stock-picks.partitions.quarters-ahead:2}")
+    private int quartersAhead;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ensureUpcomingPartitions();
+    }
+
+    // Daily is far more often than needed; partitions are created quarters in advance
+    @Scheduled(cron = "${stock-picks.partitions.maintenance.cron:0 15 3 * * *}")
+    public void ensureUpcomingPartitions() {
+        if (!maintenanceEnabled) {
+            return;
+        }
+
+        // Instances start together; let one of them issue the DDL
+        Optional<Long> lease = jobLeaseService.tryAcquire(MAINTENANCE_JOB, LEASE_TTL);
+        if (lease.isEmpty()) {
+            logger.debug("Skipping partition maintenance - another instance is running it");
+            return;
+        }
+
+        LocalDate quarterStart = LocalDate.now().with(IsoFields.DAY_OF_QUARTER, 1);
+        try {
+            for (int i = 0; i <= quartersAhead; i++) {
+                String partition = jdbcTemplate.queryForObject("SELECT create_stock_picks_partition(?)",
+                        String.class, quarterStart.plusMonths(3L * i));
+                logger.debug("Stock pick partition {} is in place", partition);
+            }
+        } catch (Exception e) {
+            logger.error("Error creating stock pick partitions: {}", e.getMessage(), e);
+        } finally {
+            jobLeaseService.release(MAINTENANCE_JOB, lease.get());
+        }
+    }
+}
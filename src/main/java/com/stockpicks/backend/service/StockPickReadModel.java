@@ -0,0 +1,274 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.event.StockPicksChangedEvent;
+import com.stockpicks.backend.repository.StockPickRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immutable in-memory view of the stock pick summaries. The pick table changes only a few
+ * times a day, so reads are served from a snapshot that is rebuilt copy-on-write after
+ * every committed change instead of querying Postgres per request.
+ */
+@Service
+public class StockPickReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(StockPickReadModel.class);
+
+    @Autowired
+    private StockPickRepository stockPickRepository;
+
+    // Local to this instance; only in-process caches compare it, ETags use the content tag
+    private final AtomicLong versionCounter = new AtomicLong(System.currentTimeMillis());
+
+    private volatile Snapshot snapshot;
+
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = rebuild(true);
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Reloads the pick summaries. A forced rebuild always advances the local version that
+     * in-process caches key on; an unforced one only does so when the data differs. The
+     * ETag is derived from the data itself (a digest of the summaries and the latest
+     * updated_at, which also moves on commentary edits), so every instance serving the same
+     * picks hands out the same ETag.
+     */
+    public synchronized Snapshot rebuild(boolean force) {
+        List<StockPickSummary> picks = stockPickRepository.findAllSummaries();
+        LocalDateTime latestUpdate = stockPickRepository.findLatestUpdatedAt();
+        String contentTag = contentTag(picks, latestUpdate);
+        Snapshot previous = snapshot;
+        if (!force && previous != null && previous.contentTag.equals(contentTag)) {
+            return previous;
+        }
+        Snapshot rebuilt = new Snapshot(picks, versionCounter.incrementAndGet(), contentTag,
+                lastModified(previous, contentTag, latestUpdate));
+        snapshot = rebuilt;
+        logger.debug("Stock pick read model rebuilt with {} picks at version {} ({})", picks.size(), rebuilt.getVersion(), contentTag);
+        return rebuilt;
+    }
+
+    private static String contentTag(List<StockPickSummary> picks, LocalDateTime latestUpdate) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((picks.size() + "|" + latestUpdate).getBytes(StandardCharsets.UTF_8));
+            for (StockPickSummary pick : picks) {
+                String row = pick.getId() + "\u001f" + pick.getSymbol() + "\u001f" + pick.getCompanyName() + "\u001f"
+                        + (pick.getPickType() != null ? pick.getPickType().name() : null) + "\u001f" + pick.getEntryPrice() + "\u001f"
+                        + pick.getTargetPrice() + "\u001f" + pick.getStopLoss() + "\u001f" + pick.getCurrentPrice() + "\u001f"
+                        + pick.getPickDate() + "\u001f" + pick.getIsActive() + "\u001e";
+                digest.update(row.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * The latest updated_at, so that instances agree. Deleting a pick changes the data
+     * without moving updated_at forward; then the rebuild time is used instead.
+     */
+    private static Instant lastModified(Snapshot previous, String contentTag, LocalDateTime latestUpdate) {
+        Instant updated = latestUpdate != null ? latestUpdate.atZone(ZoneId.systemDefault()).toInstant() : Instant.EPOCH;
+        if (previous == null) {
+            return updated;
+        }
+        if (previous.contentTag.equals(contentTag)) {
+            return previous.getLastModified();
+        }
+        return updated.isAfter(previous.getLastModified()) ? updated : Instant.now();
+    }
+
+    // Runs before other listeners so they observe the rebuilt snapshot
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onStockPicksChanged(StockPicksChangedEvent event) {
+        try {
+            rebuild(true);
+        } catch (Exception e) {
+            // Keep serving the previous snapshot; the periodic refresh will retry
+            logger.error("Error rebuilding stock pick read model after {} of {} picks: {}",
+                    event.getChangeType(), event.getPickIds().size(), e.getMessage(), e);
+        }
+    }
+
+    // Safety net for changes no broadcast reported (manual SQL, notifications missed while disconnected)
+    @Scheduled(fixedRateString = "#{${stock-picks.read-model.refresh.interval.minutes:5} * 60 * 1000}",
+            initialDelayString = "#{${stock-picks.read-model.refresh.interval.minutes:5} * 60 * 1000}")
+    public void scheduledRebuild() {
+        try {
+            rebuild(false);
+        } catch (Exception e) {
+            logger.error("Error during scheduled stock pick read model rebuild: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * All picks sorted by (pickDate DESC, id DESC), with secondary indexes that keep the
+     * same order. Instances are never mutated after construction.
+     */
+    public static class Snapshot {
+        private final List<StockPickSummary> byDate;
+        private final Map<Long, StockPickSummary> byId;
+        private final Map<String, List<StockPickSummary>> bySymbol;
+        private final Map<PickType, List<StockPickSummary>> byType;
+        private final long version;
+        private final String contentTag;
+        private final Instant lastModified;
+
+        Snapshot(List<StockPickSummary> sortedPicks, long version, String contentTag, Instant lastModified) {
+            Map<Long, StockPickSummary> ids = new HashMap<>();
+            Map<String, List<StockPickSummary>> symbols = new HashMap<>();
+            Map<PickType, List<StockPickSummary>> types = new EnumMap<>(PickType.class);
+            for (StockPickSummary pick : sortedPicks) {
+                ids.put(pick.getId(), pick);
+                symbols.computeIfAbsent(pick.getSymbol(), key -> new ArrayList<>()).add(pick);
+                if (pick.getPickType() != null) {
+                    types.computeIfAbsent(pick.getPickType(), key -> new ArrayList<>()).add(pick);
+                }
+            }
+            symbols.replaceAll((key, list) -> Collections.unmodifiableList(list));
+            types.replaceAll((key, list) -> Collections.unmodifiableList(list));
+
+            this.byDate = Collections.unmodifiableList(new ArrayList<>(sortedPicks));
+            this.byId = Collections.unmodifiableMap(ids);
+            this.bySymbol = Collections.unmodifiableMap(symbols);
+            this.byType = Collections.unmodifiableMap(types);
+            this.version = version;
+            this.contentTag = contentTag;
+            this.lastModified = lastModified;
+        }
+
+        /**
+         * Monotonically increasing pick-data version of this instance, advanced on every
+         * change to the pick table. Not comparable across instances.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        public Instant getLastModified() {
+            return lastModified;
+        }
+
+        /** Digest of the pick data; identical on every instance that loaded the same picks. */
+        public String getContentTag() {
+            return contentTag;
+        }
+
+        /**
+         * Strong ETag for this data. The variant names the response shape (for example
+         * "free" or "subscriber") because different callers get different bodies for the same URL.
+         */
+        public String eTag(String variant) {
+            return "\"picks-" + contentTag + "-" + variant + "\"";
+        }
+
+        public List<StockPickSummary> all() {
+            return byDate;
+        }
+
+        public StockPickSummary byId(Long id) {
+            return byId.get(id);
+        }
+
+        public List<StockPickSummary> bySymbol(String symbol) {
+            return bySymbol.getOrDefault(symbol, Collections.emptyList());
+        }
+
+        public List<StockPickSummary> byType(PickType pickType) {
+            return byType.getOrDefault(pickType, Collections.emptyList());
+        }
+
+        public List<StockPickSummary> recent(int limit) {
+            return byDate.subList(0, Math.min(Math.max(limit, 0), byDate.size()));
+        }
+
+        /** Picks with startDate <= pickDate <= endDate, located by binary search. */
+        public List<StockPickSummary> byDateRange(LocalDateTime startDate, LocalDateTime endDate) {
+            int from = firstIndexAtOrBefore(byDate, endDate);
+            int to = firstIndexBefore(byDate, startDate);
+            return from < to ? byDate.subList(from, to) : Collections.emptyList();
+        }
+
+        /** Up to {@code limit} picks of {@code sorted} that come strictly after the cursor. */
+        public static List<StockPickSummary> pageAfter(List<StockPickSummary> sorted, StockPickCursor cursor, int limit) {
+            int low = 0;
+            int high = sorted.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                StockPickSummary pick = sorted.get(mid);
+                int cmp = pick.getPickDate().compareTo(cursor.getPickDate());
+                boolean afterCursor = cmp < 0 || (cmp == 0 && pick.getId() < cursor.getId());
+                if (afterCursor) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return sorted.subList(low, Math.min(low + limit, sorted.size()));
+        }
+
+        private static int firstIndexAtOrBefore(List<StockPickSummary> sorted, LocalDateTime date) {
+            int low = 0;
+            int high = sorted.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (!sorted.get(mid).getPickDate().isAfter(date)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+
+        private static int firstIndexBefore(List<StockPickSummary> sorted, LocalDateTime date) {
+            int low = 0;
+            int high = sorted.size();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted.get(mid).getPickDate().isBefore(date)) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+    }
+}
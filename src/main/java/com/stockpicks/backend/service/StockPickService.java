@@ -1,9 +1,16 @@
 package com.stockpicks.backend.service;
 
+import com.stockpicks.backend.dto.stockpick.StockPickFilter;
+import com.stockpicks.backend.dto.stockpick.StockPickPageResponse;
+import com.stockpicks.backend.dto.stockpick.StockPickSearchResponse;
+import com.stockpicks.backend.dto.stockpick.StockPickSearchResult;
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
 import com.stockpicks.backend.entity.StockPick;
 import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.event.StockPicksChangedEvent;
 import com.stockpicks.backend.repository.StockPickRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -13,40 +20,94 @@ import java.util.Optional;
 @Service
 public class StockPickService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 200;
+    public static final int DEFAULT_SEARCH_PAGE_SIZE = 20;
+    public static final int MAX_SEARCH_PAGE_SIZE = 50;
+    // Ranked search pages by OFFSET; deeper pages are rejected rather than scanned
+    public static final int MAX_SEARCH_PAGE = 200;
+
     @Autowired
     private StockPickRepository stockPickRepository;
 
     @Autowired
-    private GoogleSheetsService googleSheetsService;
+    private StockPickReadModel stockPickReadModel;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
-    public List<StockPick> getAllStockPicks() {
-        return stockPickRepository.findByOrderByPickDateDesc();
+    public StockPickPageResponse getStockPicks(String cursor, int size) {
+        return page(stockPickReadModel.current().all(), cursor, size);
     }
 
-    public List<StockPick> getStockPicksByType(PickType pickType) {
-        return stockPickRepository.findByPickType(pickType);
+    public StockPickPageResponse getStockPicksByType(PickType pickType, String cursor, int size) {
+        return page(stockPickReadModel.current().byType(pickType), cursor, size);
     }
 
-    public List<StockPick> getStockPicksBySymbol(String symbol) {
-        return stockPickRepository.findBySymbol(symbol.toUpperCase());
+    public StockPickPageResponse getStockPicksBySymbol(String symbol, String cursor, int size) {
+        return page(stockPickReadModel.current().bySymbol(symbol.toUpperCase()), cursor, size);
     }
 
     public Optional<StockPick> getStockPickById(Long id) {
         return stockPickRepository.findById(id);
     }
 
-    public List<StockPick> getRecentStockPicks(int limit) {
-        return stockPickRepository.findTopByOrderByPickDateDesc(limit);
+    public List<StockPickSummary> getRecentStockPicks(int limit) {
+        return stockPickReadModel.current().recent(limit);
+    }
+
+    public StockPickPageResponse getStockPicksByDateRange(LocalDateTime startDate, LocalDateTime endDate, String cursor, int size) {
+        return page(stockPickReadModel.current().byDateRange(startDate, endDate), cursor, size);
+    }
+
+    /**
+     * Combined filter over type, symbols, date range, active flag and return. Unlike the
+     * single-criterion listings this is answered by one database query, not the read model.
+     */
+    public StockPickPageResponse filterStockPicks(StockPickFilter filter, String cursor, int size) {
+        if (filter.getStartDate() != null && filter.getEndDate() != null && filter.getStartDate().isAfter(filter.getEndDate())) {
+            throw new IllegalArgumentException("startDate must not be after endDate");
+        }
+        if (filter.getMinReturn() != null && filter.getMaxReturn() != null && filter.getMinReturn().compareTo(filter.getMaxReturn()) > 0) {
+            throw new IllegalArgumentException("minReturn must not be greater than maxReturn");
+        }
+        if (filter.getSymbols() != null) {
+            filter.setSymbols(filter.getSymbols().stream()
+                    .filter(symbol -> symbol != null && !symbol.isBlank())
+                    .map(symbol -> symbol.trim().toUpperCase())
+                    .distinct()
+                    .toList());
+        }
+
+        int pageSize = clampPageSize(size);
+        StockPickCursor after = StockPickCursor.decode(cursor);
+        List<StockPickSummary> rows = after == StockPickCursor.START
+                ? stockPickRepository.findSummaries(filter, null, null, pageSize + 1)
+                : stockPickRepository.findSummaries(filter, after.getPickDate(), after.getId(), pageSize + 1);
+        return toPage(rows, pageSize);
     }
 
-    public List<StockPick> getStockPicksByDateRange(LocalDateTime startDate, LocalDateTime endDate) {
-        return stockPickRepository.findByPickDateBetweenOrderByPickDateDesc(startDate, endDate);
+    public StockPickSearchResponse searchStockPicks(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+        if (page > MAX_SEARCH_PAGE) {
+            throw new IllegalArgumentException("Search page cannot exceed " + MAX_SEARCH_PAGE);
+        }
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(size <= 0 ? DEFAULT_SEARCH_PAGE_SIZE : size, MAX_SEARCH_PAGE_SIZE);
+        List<StockPickSearchResult> rows = stockPickRepository.search(query.trim(), pageSize + 1, pageNumber * pageSize);
+        boolean hasMore = rows.size() > pageSize;
+        List<StockPickSearchResult> results = hasMore ? rows.subList(0, pageSize) : rows;
+        return new StockPickSearchResponse(query.trim(), results, pageNumber, pageSize, hasMore);
     }
 
     public StockPick saveStockPick(StockPick stockPick) {
         stockPick.setCreatedAt(LocalDateTime.now());
         stockPick.setUpdatedAt(LocalDateTime.now());
-        return stockPickRepository.save(stockPick);
+        StockPick savedStockPick = stockPickRepository.save(stockPick);
+        publishChange(StockPicksChangedEvent.ChangeType.CREATED, savedStockPick.getId());
+        return savedStockPick;
     }
 
     public StockPick updateStockPick(Long id, StockPick updatedStockPick) {
@@ -61,20 +122,44 @@ public class StockPickService {
             stockPick.setTargetPrice(updatedStockPick.getTargetPrice());
             stockPick.setCommentary(updatedStockPick.getCommentary());
             stockPick.setUpdatedAt(LocalDateTime.now());
-            return stockPickRepository.save(stockPick);
+            StockPick savedStockPick = stockPickRepository.save(stockPick);
+            publishChange(StockPicksChangedEvent.ChangeType.UPDATED, savedStockPick.getId());
+            return savedStockPick;
         }
         throw new RuntimeException("Stock pick not found with id: " + id);
     }
 
     public void deleteStockPick(Long id) {
         stockPickRepository.deleteById(id);
+        publishChange(StockPicksChangedEvent.ChangeType.DELETED, id);
+    }
+
+    private int clampPageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    // One extra element is taken so we know whether another page exists
+    private StockPickPageResponse page(List<StockPickSummary> sorted, String cursor, int size) {
+        int pageSize = clampPageSize(size);
+        List<StockPickSummary> rows = StockPickReadModel.Snapshot.pageAfter(sorted, StockPickCursor.decode(cursor), pageSize + 1);
+        return toPage(rows, pageSize);
     }
 
-    public int syncStockPicksFromGoogleSheets() {
-        try {
-            return googleSheetsService.syncStockPicks();
-        } catch (Exception e) {
-            throw new RuntimeException("Error syncing stock picks from Google Sheets: " + e.getMessage());
+    private StockPickPageResponse toPage(List<StockPickSummary> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<StockPickSummary> items = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            StockPickSummary last = items.get(items.size() - 1);
+            nextCursor = new StockPickCursor(last.getPickDate(), last.getId()).encode();
         }
+        return new StockPickPageResponse(items, nextCursor, hasMore);
+    }
+
+    private void publishChange(StockPicksChangedEvent.ChangeType changeType, Long pickId) {
+        eventPublisher.publishEvent(new StockPicksChangedEvent(changeType, List.of(pickId)));
     }
 }
\ No newline at end of file
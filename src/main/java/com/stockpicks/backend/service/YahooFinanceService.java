@@ -1,6 +1,9 @@
 package com.stockpicks.backend.service;
 
+import com.stockpicks.backend.dto.backtest.DailyCandle;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -8,13 +11,18 @@ import org.springframework.web.util.UriComponentsBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 
 @Service
 public class YahooFinanceService {
 
     private static final Logger logger = LoggerFactory.getLogger(YahooFinanceService.class);
+
+    private static final ZoneId MARKET_ZONE = ZoneId.of("America/New_York");
     
     private final RestTemplate restTemplate;
 
@@ -28,8 +36,11 @@ public class YahooFinanceService {
         this.restTemplate = new RestTemplate();
     }
     
-    private void addHeaders() {
-        // Add required headers for RapidAPI - done per request to ensure apiKey is available
+    // Installed once after injection; mutating the interceptor list per request is unsafe
+    // when quotes and candles are fetched in parallel
+    @PostConstruct
+    void addHeaders() {
+        // Add required headers for RapidAPI; the interceptor reads the injected apiKey at request time
         this.restTemplate.getInterceptors().clear();
         this.restTemplate.getInterceptors().add((request, body, execution) -> {
             request.getHeaders().add("X-RapidAPI-Key", apiKey);
@@ -41,13 +52,41 @@ public class YahooFinanceService {
 
     @Cacheable(value = "yahooFinanceChart", key = "#symbol + '_' + #period")
     public Map<String, Object> getChartData(String symbol, String period) {
+        return fetchChart(symbol, period, mapPeriodToInterval(period));
+    }
+
+    /**
+     * Daily candles over the given range (for example "10y" or "max"), oldest first, with
+     * incomplete bars dropped. Used by backtests, which need daily bars however long the range.
+     */
+    @Cacheable(value = "yahooFinanceDailyCandles", key = "#symbol + '_' + #range", unless = "#result.isEmpty()")
+    public List<DailyCandle> getDailyCandles(String symbol, String range) {
+        Map<String, Object> chart = fetchChart(symbol, range, "1d");
+        Map<String, Object> candles = (Map<String, Object>) chart.get("candles");
+        if (candles == null) {
+            return Collections.emptyList();
+        }
+
+        Long[] timestamps = (Long[]) candles.get("t");
+        Double[] opens = (Double[]) candles.get("o");
+        Double[] highs = (Double[]) candles.get("h");
+        Double[] lows = (Double[]) candles.get("l");
+        Double[] closes = (Double[]) candles.get("c");
+        List<DailyCandle> dailyCandles = new ArrayList<>(timestamps.length);
+        for (int i = 0; i < timestamps.length; i++) {
+            LocalDate date = Instant.ofEpochSecond(timestamps[i]).atZone(MARKET_ZONE).toLocalDate();
+            dailyCandles.add(new DailyCandle(date, opens[i], highs[i], lows[i], closes[i]));
+        }
+        return dailyCandles;
+    }
+
+    private Map<String, Object> fetchChart(String symbol, String period, String interval) {
         try {
-            addHeaders(); // Ensure headers are set with the injected API key
             logger.info("Fetching Yahoo Finance chart data for symbol: {} with period: {}", symbol, period);
-            logger.info("DEBUG: API Key configured: {}, Base URL: {}", (apiKey != null && !apiKey.isEmpty()) ? "YES" : "NO", baseUrl);
+            logger.debug("API Key configured: {}, Base URL: {}", (apiKey != null && !apiKey.isEmpty()) ? "YES" : "NO", baseUrl);
             
             String url = UriComponentsBuilder.fromHttpUrl(baseUrl + "/stock/v3/get-chart")
-                    .queryParam("interval", mapPeriodToInterval(period))
+                    .queryParam("interval", interval)
                     .queryParam("symbol", symbol)
                     .queryParam("range", period)
                     .queryParam("region", "US")
@@ -62,7 +101,7 @@ public class YahooFinanceService {
             Map<String, Object> response = restTemplate.getForObject(url, Map.class);
             
             // Debug: Log the actual response structure
-            logger.info("DEBUG: Yahoo Finance API response for {}: {}", symbol, response);
+            logger.debug("Yahoo Finance API response for {}: {}", symbol, response);
             
             if (response == null) {
                 logger.warn("No response from Yahoo Finance for symbol: {}", symbol);
@@ -70,7 +109,7 @@ public class YahooFinanceService {
             }
             
             // Debug: Log response keys and structure
-            logger.info("DEBUG: Response keys for {}: {}", symbol, response.keySet());
+            logger.debug("Response keys for {}: {}", symbol, response.keySet());
             
             return processYahooResponse(response, symbol, period);
             
@@ -82,7 +121,7 @@ public class YahooFinanceService {
 
     private Map<String, Object> processYahooResponse(Map<String, Object> response, String symbol, String period) {
         try {
-            logger.info("DEBUG: Processing Yahoo response for {}, response structure: {}", symbol, response);
+            logger.debug("Processing Yahoo response for {}, response structure: {}", symbol, response);
             
             // Navigate through Yahoo's response structure
             Map<String, Object> chart = (Map<String, Object>) response.get("chart");
@@ -91,7 +130,7 @@ public class YahooFinanceService {
                 return createEmptyResponse();
             }
             
-            logger.info("DEBUG: Chart data found for {}, chart keys: {}", symbol, chart.keySet());
+            logger.debug("Chart data found for {}, chart keys: {}", symbol, chart.keySet());
             
             List<Map<String, Object>> results = (List<Map<String, Object>>) chart.get("result");
             if (results == null || results.isEmpty()) {
@@ -99,7 +138,7 @@ public class YahooFinanceService {
                 return createEmptyResponse();
             }
             
-            logger.info("DEBUG: Found {} results for {}", results.size(), symbol);
+            logger.debug("Found {} results for {}", results.size(), symbol);
             
             Map<String, Object> result = results.get(0);
             
@@ -107,7 +146,8 @@ public class YahooFinanceService {
             Map<String, Object> meta = (Map<String, Object>) result.get("meta");
             
             // Extract timestamps
-            List<Long> timestamps = (List<Long>) result.get("timestamp");
+            // Jackson maps whole numbers to Integer, so numeric arrays are read as Number
+            List<Number> timestamps = (List<Number>) result.get("timestamp");
             if (timestamps == null || timestamps.isEmpty()) {
                 logger.warn("No timestamp data for symbol: {}", symbol);
                 return createEmptyResponse();
@@ -129,10 +169,10 @@ public class YahooFinanceService {
             Map<String, Object> quote = quotes.get(0);
             
             // Extract OHLCV data
-            List<Double> opens = (List<Double>) quote.get("open");
-            List<Double> highs = (List<Double>) quote.get("high");
-            List<Double> lows = (List<Double>) quote.get("low");
-            List<Double> closes = (List<Double>) quote.get("close");
+            List<Number> opens = (List<Number>) quote.get("open");
+            List<Number> highs = (List<Number>) quote.get("high");
+            List<Number> lows = (List<Number>) quote.get("low");
+            List<Number> closes = (List<Number>) quote.get("close");
             List<Object> volumeObjects = (List<Object>) quote.get("volume");
             List<Long> volumes = new ArrayList<>();
             if (volumeObjects != null) {
@@ -172,12 +212,12 @@ public class YahooFinanceService {
                     opens.get(i) != null && highs.get(i) != null && lows.get(i) != null && 
                     closes.get(i) != null && volumes.get(i) != null) {
                     
-                    filteredOpens.add(opens.get(i));
-                    filteredHighs.add(highs.get(i));
-                    filteredLows.add(lows.get(i));
-                    filteredCloses.add(closes.get(i));
+                    filteredOpens.add(opens.get(i).doubleValue());
+                    filteredHighs.add(highs.get(i).doubleValue());
+                    filteredLows.add(lows.get(i).doubleValue());
+                    filteredCloses.add(closes.get(i).doubleValue());
                     filteredVolumes.add(volumes.get(i));
-                    filteredTimestamps.add(timestamps.get(i));
+                    filteredTimestamps.add(timestamps.get(i).longValue());
                 }
             }
             
@@ -270,6 +310,21 @@ public class YahooFinanceService {
         }
     }
 
+    /**
+     * Fetches a fresh quote and replaces the cached one. Used by the scheduled quote refresh,
+     * which needs the current intraday range rather than a quote up to the cache TTL old.
+     */
+    @CachePut(value = "yahooFinanceQuote", key = "#symbol", unless = "#result.isEmpty()")
+    public Map<String, Object> refreshStockQuote(String symbol) {
+        // Internal call, so the chart cache is bypassed as well
+        Map<String, Object> chartData = getChartData(symbol, "1d");
+        if (chartData.containsKey("quote")) {
+            return (Map<String, Object>) chartData.get("quote");
+        }
+        logger.warn("No quote data available on refresh for symbol: {}", symbol);
+        return new HashMap<>();
+    }
+
     private Map<String, Object> createEmptyResponse() {
         Map<String, Object> emptyResponse = new HashMap<>();
         emptyResponse.put("c", new Double[0]);
@@ -0,0 +1,88 @@
+package com.stockpicks.backend.controller;
+
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.service.StockPickReadModel;
+import com.stockpicks.backend.service.StockPickService;
+import com.stockpicks.backend.service.SubscriptionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Keyset paging cursors arrive from clients, so a bad one must be a 400 rather than a 500
+class StockPickControllerTest {
+
+	private final Authentication subscriber = new UsernamePasswordAuthenticationToken("subscriber@example.com", null, List.of());
+
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		StockPickReadModel.Snapshot snapshot = mock(StockPickReadModel.Snapshot.class);
+		List<StockPickSummary> picks = List.of(
+				new StockPickSummary(2L, "MSFT", "Microsoft", PickType.BUY, new BigDecimal("400.00"), null, null, null,
+						LocalDateTime.of(2024, 3, 2, 0, 0), true),
+				new StockPickSummary(1L, "AAPL", "Apple", PickType.BUY, new BigDecimal("180.00"), null, null, null,
+						LocalDateTime.of(2024, 3, 1, 0, 0), true));
+		when(snapshot.all()).thenReturn(picks);
+		when(snapshot.byType(PickType.BUY)).thenReturn(picks);
+		when(snapshot.eTag(anyString())).thenReturn("\"picks-test\"");
+		when(snapshot.getLastModified()).thenReturn(Instant.parse("2024-03-02T00:00:00Z"));
+		StockPickReadModel readModel = mock(StockPickReadModel.class);
+		when(readModel.current()).thenReturn(snapshot);
+
+		StockPickService stockPickService = new StockPickService();
+		ReflectionTestUtils.setField(stockPickService, "stockPickReadModel", readModel);
+		SubscriptionService subscriptionService = mock(SubscriptionService.class);
+		when(subscriptionService.hasActiveSubscription("subscriber@example.com")).thenReturn(true);
+
+		StockPickController controller = new StockPickController();
+		ReflectionTestUtils.setField(controller, "stockPickService", stockPickService);
+		ReflectionTestUtils.setField(controller, "stockPickReadModel", readModel);
+		ReflectionTestUtils.setField(controller, "subscriptionService", subscriptionService);
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+	}
+
+	@Test
+	void garbageCursorIsABadRequest() throws Exception {
+		mockMvc.perform(get("/api/stock-picks").param("cursor", "not a cursor!").principal(subscriber))
+				.andExpect(status().isBadRequest());
+		mockMvc.perform(get("/api/stock-picks/type/BUY").param("cursor", "%%%").principal(subscriber))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void wellFormedBase64ThatIsNotACursorIsABadRequest() throws Exception {
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString("yesterday|1".getBytes(StandardCharsets.UTF_8));
+
+		mockMvc.perform(get("/api/stock-picks").param("cursor", token).principal(subscriber))
+				.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	void blankCursorServesTheFirstPage() throws Exception {
+		mockMvc.perform(get("/api/stock-picks").param("cursor", " ").param("size", "1").principal(subscriber).accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].id").value(2))
+				.andExpect(jsonPath("$.hasMore").value(true));
+	}
+}
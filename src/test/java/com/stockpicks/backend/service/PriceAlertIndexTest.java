@@ -0,0 +1,81 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.alert.PriceAlertThreshold;
+import com.stockpicks.backend.enums.AlertDirection;
+import com.stockpicks.backend.repository.PriceAlertRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PriceAlertIndexTest {
+
+	private static final BigDecimal[] THRESHOLDS = prices("10.00", "20.00", "20.00", "30.00");
+
+	private final PriceAlertIndex index = new PriceAlertIndex();
+
+	@BeforeEach
+	void loadAlerts() {
+		PriceAlertRepository repository = mock(PriceAlertRepository.class);
+		when(repository.findActiveThresholds()).thenReturn(List.of(
+				new PriceAlertThreshold(1L, "AAPL", AlertDirection.ABOVE, new BigDecimal("150.00")),
+				new PriceAlertThreshold(2L, "AAPL", AlertDirection.ABOVE, new BigDecimal("200.00")),
+				new PriceAlertThreshold(3L, "AAPL", AlertDirection.BELOW, new BigDecimal("100.00")),
+				new PriceAlertThreshold(4L, "AAPL", AlertDirection.BELOW, new BigDecimal("120.00"))));
+		ReflectionTestUtils.setField(index, "priceAlertRepository", repository);
+	}
+
+	@Test
+	void upperBoundIncludesThresholdsEqualToThePrice() {
+		assertEquals(0, PriceAlertIndex.upperBound(THRESHOLDS, new BigDecimal("9.99")));
+		assertEquals(1, PriceAlertIndex.upperBound(THRESHOLDS, new BigDecimal("10.00")));
+		assertEquals(3, PriceAlertIndex.upperBound(THRESHOLDS, new BigDecimal("20")));
+		assertEquals(3, PriceAlertIndex.upperBound(THRESHOLDS, new BigDecimal("29.99")));
+		assertEquals(4, PriceAlertIndex.upperBound(THRESHOLDS, new BigDecimal("30.00")));
+		assertEquals(4, PriceAlertIndex.upperBound(THRESHOLDS, new BigDecimal("1000")));
+	}
+
+	@Test
+	void lowerBoundExcludesThresholdsBelowThePrice() {
+		assertEquals(0, PriceAlertIndex.lowerBound(THRESHOLDS, new BigDecimal("9.99")));
+		assertEquals(0, PriceAlertIndex.lowerBound(THRESHOLDS, new BigDecimal("10.00")));
+		assertEquals(1, PriceAlertIndex.lowerBound(THRESHOLDS, new BigDecimal("10.01")));
+		assertEquals(1, PriceAlertIndex.lowerBound(THRESHOLDS, new BigDecimal("20")));
+		assertEquals(3, PriceAlertIndex.lowerBound(THRESHOLDS, new BigDecimal("30.00")));
+		assertEquals(4, PriceAlertIndex.lowerBound(THRESHOLDS, new BigDecimal("30.01")));
+	}
+
+	@Test
+	void boundsOfAnEmptyArrayAreZero() {
+		assertEquals(0, PriceAlertIndex.upperBound(new BigDecimal[0], BigDecimal.ONE));
+		assertEquals(0, PriceAlertIndex.lowerBound(new BigDecimal[0], BigDecimal.ONE));
+	}
+
+	@Test
+	void findCrossedFiresAlertsExactlyAtTheirTarget() {
+		assertEquals(List.of(1L), index.findCrossed("AAPL", new BigDecimal("150.00")));
+		assertEquals(List.of(4L), index.findCrossed("AAPL", new BigDecimal("120")));
+		assertEquals(List.of(3L, 4L), index.findCrossed("AAPL", new BigDecimal("100.00")));
+	}
+
+	@Test
+	void findCrossedIgnoresPricesBetweenThresholds() {
+		assertEquals(List.of(), index.findCrossed("AAPL", new BigDecimal("149.99")));
+		assertEquals(List.of(), index.findCrossed("AAPL", new BigDecimal("120.01")));
+		assertEquals(List.of(), index.findCrossed("MSFT", new BigDecimal("150.00")));
+	}
+
+	private static BigDecimal[] prices(String... values) {
+		BigDecimal[] prices = new BigDecimal[values.length];
+		for (int i = 0; i < values.length; i++) {
+			prices[i] = new BigDecimal(values[i]);
+		}
+		return prices;
+	}
+}
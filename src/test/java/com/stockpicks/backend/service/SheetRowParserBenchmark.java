@@ -0,0 +1,149 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.entity.StockPick;
+import com.stockpicks.backend.enums.PickType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SheetRowParser} with the row parsing the Google Sheets sync used before
+ * it, over a sheet-sized batch of rows in every supported date format. Not a unit test;
+ * run it from its main method, e.g.
+ * <pre>
+ * mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp target/classes:target/test-classes:$(cat target/cp.txt) com.stockpicks.backend.service.SheetRowParserBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SheetRowParserBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private final SheetRowParser parser = new SheetRowParser();
+
+    private List<List<Object>> rows;
+
+    @Setup
+    public void createRows() {
+        Random random = new Random(42);
+        DateTimeFormatter[] formats = {
+                DateTimeFormatter.ofPattern("M/d/yyyy"),
+                DateTimeFormatter.ofPattern("MM/dd/yyyy"),
+                DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+                DateTimeFormatter.ofPattern("M/d/yy"),
+                DateTimeFormatter.ofPattern("MM/dd/yy")
+        };
+        PickType[] types = PickType.values();
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate day = LocalDate.of(2020, 1, 1).plusDays(random.nextInt(2000));
+            List<Object> row = new ArrayList<>(8);
+            row.add(day.format(formats[i % formats.length]));
+            row.add("SYM" + random.nextInt(500));
+            row.add("Company " + i);
+            row.add(types[i % types.length].name().toLowerCase());
+            row.add(String.format(Locale.US, "$%,.2f", 1 + random.nextDouble() * 2000));
+            row.add("Commentary for row " + i);
+            row.add(String.format(Locale.US, "%.2f", 1 + random.nextDouble() * 2000));
+            row.add(i % 3 == 0 ? "" : String.format(Locale.US, "$%,.2f", 1 + random.nextDouble() * 3000));
+            rows.add(row);
+        }
+    }
+
+    @Benchmark
+    public void sheetRowParser(Blackhole blackhole) {
+        for (List<Object> row : rows) {
+            blackhole.consume(parser.parse(row));
+        }
+    }
+
+    @Benchmark
+    public void previousParsing(Blackhole blackhole) {
+        for (List<Object> row : rows) {
+            blackhole.consume(PreviousRowParsing.createStockPickFromRow(row));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SheetRowParserBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    // The parsing GoogleSheetsService did before SheetRowParser, kept as the baseline
+    static class PreviousRowParsing {
+
+        static StockPick createStockPickFromRow(List<Object> row) {
+            if (isHeaderRow(row)) {
+                return null;
+            }
+            StockPick stockPick = new StockPick();
+            stockPick.setPickDate(parseDate(row.get(0).toString()));
+            stockPick.setSymbol(row.get(1).toString().toUpperCase().trim());
+            stockPick.setCompanyName(row.get(2).toString().trim());
+            stockPick.setPickType(PickType.valueOf(row.get(3).toString().toUpperCase().trim()));
+            stockPick.setEntryPrice(parsePrice(row.get(4).toString()));
+            stockPick.setCommentary(row.size() > 5 ? row.get(5).toString().trim() : "");
+            if (row.size() > 6 && !row.get(6).toString().trim().isEmpty()) {
+                stockPick.setCurrentPrice(parsePrice(row.get(6).toString()));
+            }
+            if (row.size() > 7 && !row.get(7).toString().trim().isEmpty()) {
+                stockPick.setTargetPrice(parsePrice(row.get(7).toString()));
+            }
+            stockPick.setCreatedAt(LocalDateTime.now());
+            stockPick.setUpdatedAt(LocalDateTime.now());
+            return stockPick;
+        }
+
+        static boolean isHeaderRow(List<Object> row) {
+            return row.get(0).toString().toLowerCase().contains("date") ||
+                row.get(1).toString().toLowerCase().contains("symbol");
+        }
+
+        static LocalDateTime parseDate(String dateStr) {
+            String cleanDate = dateStr.trim();
+            String[] patterns = {"M/d/yyyy", "MM/dd/yyyy", "yyyy-MM-dd", "M/d/yy", "MM/dd/yy"};
+            for (String pattern : patterns) {
+                try {
+                    return LocalDate.parse(cleanDate, DateTimeFormatter.ofPattern(pattern)).atStartOfDay();
+                } catch (Exception ignored) {
+                    // Try next formatter
+                }
+            }
+            return LocalDateTime.now();
+        }
+
+        static BigDecimal parsePrice(String priceStr) {
+            try {
+                return new BigDecimal(priceStr.trim().replace("$", "").replace(",", "").replace(" ", ""));
+            } catch (Exception e) {
+                return BigDecimal.ZERO;
+            }
+        }
+    }
+}
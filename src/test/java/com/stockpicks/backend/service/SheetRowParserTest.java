@@ -0,0 +1,28 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.service.SheetRowParserBenchmark.PreviousRowParsing;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// SheetRowParser must read every value exactly as the parsing it replaced did
+class SheetRowParserTest {
+
+	private final SheetRowParser parser = new SheetRowParser();
+
+	@ParameterizedTest
+	@ValueSource(strings = {"1/5/2024", "01/05/2024", "12/31/2024", " 3/7/2023 ", "1/5/24", "01/05/24",
+			"2024-01-05", "13/45/2024", "", "-"})
+	void parseDateMatchesPreviousParsing(String value) {
+		// Unparseable dates fall back to the current time, so compare days
+		assertEquals(PreviousRowParsing.parseDate(value).toLocalDate(), parser.parseDate(value).toLocalDate());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"$1,234.50", "1234.5", " 42 ", "-0.5", "+5", "1e3", "5-", "$ 1 000", "", "-",
+			"12345678901234567890.99"})
+	void parsePriceMatchesPreviousParsing(String value) {
+		assertEquals(PreviousRowParsing.parsePrice(value), parser.parsePrice(value));
+	}
+}
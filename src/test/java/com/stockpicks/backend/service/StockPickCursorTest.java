@@ -0,0 +1,64 @@
+package com.stockpicks.backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StockPickCursorTest {
+
+	@Test
+	void decodeReadsBackWhatEncodeWrote() {
+		StockPickCursor cursor = new StockPickCursor(LocalDateTime.of(2024, 3, 1, 0, 0), 42L);
+
+		StockPickCursor decoded = StockPickCursor.decode(cursor.encode());
+
+		assertEquals(cursor.getPickDate(), decoded.getPickDate());
+		assertEquals(cursor.getId(), decoded.getId());
+	}
+
+	@Test
+	void encodedTokensAreUrlSafe() {
+		String token = new StockPickCursor(LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_000_000), Long.MAX_VALUE).encode();
+
+		assertEquals(token, token.replaceAll("[^A-Za-z0-9_-]", ""));
+	}
+
+	@ParameterizedTest
+	@NullSource
+	@ValueSource(strings = {"", "   "})
+	void missingTokenStartsAtTheNewestPick(String token) {
+		assertSame(StockPickCursor.START, StockPickCursor.decode(token));
+	}
+
+	@Test
+	void startSortsBeforeEveryPick() {
+		StockPickCursor start = StockPickCursor.decode(StockPickCursor.START.encode());
+
+		assertEquals(StockPickCursor.START.getPickDate(), start.getPickDate());
+		assertEquals(Long.MAX_VALUE, start.getId());
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"not a cursor!", "%%%", "abc=def", "a"})
+	void tokensThatAreNotBase64AreRejected(String token) {
+		assertThrows(IllegalArgumentException.class, () -> StockPickCursor.decode(token));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"garbage", "2024-03-01T00:00", "2024-03-01T00:00|", "|42", "yesterday|42",
+			"2024-03-01T00:00|forty-two", "2024-13-01T00:00|42", "2024-03-01T00:00|42|7"})
+	void base64TokensThatAreNotDateAndIdAreRejected(String payload) {
+		String token = Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+
+		assertThrows(IllegalArgumentException.class, () -> StockPickCursor.decode(token));
+	}
+}
@@ -0,0 +1,176 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.stockpick.BulkImportResponse;
+import com.stockpicks.backend.dto.stockpick.ImportRowError;
+import com.stockpicks.backend.dto.stockpick.StockPickKey;
+import com.stockpicks.backend.entity.StockPick;
+import com.stockpicks.backend.enums.PickType;
+import com.stockpicks.backend.repository.StockPickRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StockPickImportServiceTest {
+
+	private final StockPickImportService importService = new StockPickImportService();
+
+	private final StockPickRepository stockPickRepository = mock(StockPickRepository.class);
+
+	// Picks already in the database, and the picks each insert batch saved
+	private final Set<StockPickKey> storedKeys = new HashSet<>();
+	private final List<List<String>> insertedBatches = new ArrayList<>();
+
+	// Symbols whose batch the database rejects as a concurrent duplicate
+	private final Set<String> conflictingSymbols = new HashSet<>();
+
+	@BeforeEach
+	void setUp() {
+		AtomicLong ids = new AtomicLong();
+		when(stockPickRepository.findKeysByPickDayBetween(any(), any())).thenAnswer(invocation -> List.copyOf(storedKeys));
+		when(stockPickRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<StockPick> picks = invocation.getArgument(0);
+			if (picks.stream().anyMatch(pick -> conflictingSymbols.contains(pick.getSymbol()))) {
+				throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+			}
+			picks.forEach(pick -> pick.setId(ids.incrementAndGet()));
+			insertedBatches.add(picks.stream().map(StockPick::getSymbol).toList());
+			return picks;
+		});
+		ReflectionTestUtils.setField(importService, "stockPickRepository", stockPickRepository);
+		ReflectionTestUtils.setField(importService, "transactionManager", mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(importService, "entityManager", mock(EntityManager.class));
+		ReflectionTestUtils.setField(importService, "eventPublisher", mock(ApplicationEventPublisher.class));
+		ReflectionTestUtils.setField(importService, "batchSize", 2);
+	}
+
+	@Test
+	void csvReadsPlainFields() throws IOException {
+		BufferedReader reader = reader("a,b,c\n1,2,3\n");
+
+		assertEquals(List.of("a", "b", "c"), StockPickImportService.readCsvRecord(reader));
+		assertEquals(List.of("1", "2", "3"), StockPickImportService.readCsvRecord(reader));
+		assertNull(StockPickImportService.readCsvRecord(reader));
+	}
+
+	@Test
+	void csvQuotedFieldsKeepCommasDoubledQuotesAndLineBreaks() throws IOException {
+		BufferedReader reader = reader("\"Apple, Inc.\",\"He said \"\"buy\"\"\",\"line one\nline two\",\"\"\nnext\n");
+
+		assertEquals(List.of("Apple, Inc.", "He said \"buy\"", "line one\nline two", ""), StockPickImportService.readCsvRecord(reader));
+		assertEquals(List.of("next"), StockPickImportService.readCsvRecord(reader));
+		assertNull(StockPickImportService.readCsvRecord(reader));
+	}
+
+	@Test
+	void csvAcceptsCrlfLineEndings() throws IOException {
+		BufferedReader reader = reader("a,\"b\"\r\n\"c\r\nd\",e\r\n");
+
+		assertEquals(List.of("a", "b"), StockPickImportService.readCsvRecord(reader));
+		assertEquals(List.of("c\r\nd", "e"), StockPickImportService.readCsvRecord(reader));
+		assertNull(StockPickImportService.readCsvRecord(reader));
+	}
+
+	@Test
+	void csvKeepsEmptyFieldsAndReadsALastLineWithoutNewline() throws IOException {
+		BufferedReader reader = reader(",a,,\n\nlast,\"quoted\"");
+
+		assertEquals(List.of("", "a", "", ""), StockPickImportService.readCsvRecord(reader));
+		assertEquals(List.of(""), StockPickImportService.readCsvRecord(reader));
+		assertEquals(List.of("last", "quoted"), StockPickImportService.readCsvRecord(reader));
+		assertNull(StockPickImportService.readCsvRecord(reader));
+	}
+
+	@Test
+	void csvImportSkipsHeaderAndBlankRowsAndReportsBadRows() throws IOException {
+		BulkImportResponse response = importCsv(
+				"Date,Symbol,Company Name,Pick Type,Entry Price\r\n"
+				+ "1/2/2024,aapl,\"Apple, Inc.\",buy,\"$1,234.50\"\r\n"
+				+ "\r\n"
+				+ "1/2/2024,MSFT,Microsoft,HOLDISH,10\r\n"
+				+ "2024-13-45,NVDA,Nvidia,BUY,10\r\n");
+
+		assertCounts(response, 3, 1, 0, 2);
+		assertEquals(List.of(List.of("AAPL")), insertedBatches);
+		assertEquals(List.of(4, 5), response.getErrors().stream().map(ImportRowError::getRow).toList());
+	}
+
+	@Test
+	void duplicatesWithinTheFileAreCountedOnceImported() throws IOException {
+		BulkImportResponse response = importCsv(
+				"1/2/2024,AAPL,Apple,BUY,10\n"
+				+ "1/2/2024,AAPL,Apple,BUY,11\n"   // same batch
+				+ "1/2/2024,MSFT,Microsoft,BUY,10\n"
+				+ "2024-01-02,aapl,Apple,buy,12\n"  // later batch, same key in another format
+				+ "1/2/2024,AAPL,Apple,SELL,10\n"); // different type, so a different pick
+
+		assertCounts(response, 5, 3, 2, 0);
+		assertEquals(List.of(List.of("AAPL"), List.of("MSFT"), List.of("AAPL")), insertedBatches);
+		assertEquals(List.of(2, 4), response.getErrors().stream().map(ImportRowError::getRow).toList());
+	}
+
+	@Test
+	void picksAlreadyInTheDatabaseAreDuplicates() throws IOException {
+		storedKeys.add(new StockPickKey("AAPL", PickType.BUY, LocalDate.of(2024, 1, 2)));
+
+		BulkImportResponse response = importCsv(
+				"1/2/2024,AAPL,Apple,BUY,10\n"
+				+ "1/3/2024,AAPL,Apple,BUY,10\n");
+
+		assertCounts(response, 2, 1, 1, 0);
+		assertEquals(List.of(List.of("AAPL")), insertedBatches);
+	}
+
+	@Test
+	void conflictingBatchFailsItsRowsAndForgetsTheirKeys() throws IOException {
+		conflictingSymbols.add("MSFT");
+
+		BulkImportResponse response = importCsv(
+				"1/2/2024,AAPL,Apple,BUY,10\n"
+				+ "1/2/2024,MSFT,Microsoft,BUY,10\n"  // rejected with the first batch
+				+ "1/3/2024,NVDA,Nvidia,BUY,10\n"
+				+ "1/4/2024,TSLA,Tesla,BUY,10\n"
+				+ "1/2/2024,AAPL,Apple,BUY,10\n");   // not a duplicate: its earlier row was never stored
+
+		assertCounts(response, 5, 3, 0, 2);
+		assertEquals(List.of(List.of("NVDA", "TSLA"), List.of("AAPL")), insertedBatches);
+		assertEquals(List.of(1, 2), response.getErrors().stream().map(ImportRowError::getRow).toList());
+	}
+
+	private BulkImportResponse importCsv(String csv) throws IOException {
+		return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static void assertCounts(BulkImportResponse response, int totalRows, int imported, int duplicates, int failed) {
+		assertEquals(totalRows, response.getTotalRows(), "total rows");
+		assertEquals(imported, response.getImported(), "imported");
+		assertEquals(duplicates, response.getDuplicates(), "duplicates");
+		assertEquals(failed, response.getFailed(), "failed");
+	}
+
+	private static BufferedReader reader(String csv) {
+		return new BufferedReader(new StringReader(csv));
+	}
+}
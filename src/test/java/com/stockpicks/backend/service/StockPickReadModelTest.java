@@ -0,0 +1,130 @@
+package com.stockpicks.backend.service;
+
+import com.stockpicks.backend.dto.stockpick.StockPickSummary;
+import com.stockpicks.backend.enums.PickType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StockPickReadModelTest {
+
+	private static final LocalDateTime MARCH_2 = LocalDateTime.of(2024, 3, 2, 0, 0);
+	private static final LocalDateTime MARCH_1 = LocalDateTime.of(2024, 3, 1, 0, 0);
+	private static final LocalDateTime FEBRUARY_28 = LocalDateTime.of(2024, 2, 28, 0, 0);
+
+	// Sorted as the read model keeps them: pickDate DESC, then id DESC
+	private static final List<StockPickSummary> PICKS = List.of(
+			pick(9L, MARCH_2),
+			pick(8L, MARCH_1),
+			pick(7L, MARCH_1),
+			pick(5L, MARCH_1),
+			pick(4L, FEBRUARY_28),
+			pick(2L, FEBRUARY_28));
+
+	@Test
+	void firstPageStartsAtTheNewestPick() {
+		assertEquals(List.of(9L, 8L), ids(StockPickReadModel.Snapshot.pageAfter(PICKS, StockPickCursor.START, 2)));
+	}
+
+	@Test
+	void pagesSplitTiedDatesByDescendingId() {
+		List<StockPickSummary> page = StockPickReadModel.Snapshot.pageAfter(PICKS, cursorAt(PICKS.get(1)), 2);
+
+		assertEquals(List.of(7L, 5L), ids(page));
+	}
+
+	@Test
+	void walkingEveryPageSizeVisitsEachPickOnceInOrder() {
+		for (int size = 1; size <= PICKS.size() + 1; size++) {
+			List<Long> visited = new ArrayList<>();
+			StockPickCursor cursor = StockPickCursor.START;
+			List<StockPickSummary> page;
+			while (!(page = StockPickReadModel.Snapshot.pageAfter(PICKS, cursor, size)).isEmpty()) {
+				visited.addAll(ids(page));
+				cursor = cursorAt(page.get(page.size() - 1));
+			}
+			assertEquals(ids(PICKS), visited, "page size " + size);
+		}
+	}
+
+	@Test
+	void cursorAtADeletedRowResumesWithTheNextOlderPick() {
+		// Id 6 sat between 7 and 5 on March 1st
+		assertEquals(List.of(5L, 4L), ids(StockPickReadModel.Snapshot.pageAfter(PICKS, new StockPickCursor(MARCH_1, 6L), 2)));
+		// The only pick of February 29th
+		assertEquals(List.of(4L, 2L), ids(StockPickReadModel.Snapshot.pageAfter(PICKS, new StockPickCursor(LocalDateTime.of(2024, 2, 29, 0, 0), 3L), 5)));
+		// Newer than everything left
+		assertEquals(List.of(9L), ids(StockPickReadModel.Snapshot.pageAfter(PICKS, new StockPickCursor(MARCH_2, 10L), 1)));
+	}
+
+	@Test
+	void cursorAtTheLastPickYieldsAnEmptyPage() {
+		assertTrue(StockPickReadModel.Snapshot.pageAfter(PICKS, cursorAt(PICKS.get(PICKS.size() - 1)), 10).isEmpty());
+		assertTrue(StockPickReadModel.Snapshot.pageAfter(PICKS, new StockPickCursor(LocalDateTime.of(2000, 1, 1, 0, 0), 1L), 10).isEmpty());
+	}
+
+	@Test
+	void emptyListYieldsEmptyPages() {
+		assertTrue(StockPickReadModel.Snapshot.pageAfter(List.of(), StockPickCursor.START, 10).isEmpty());
+		assertTrue(StockPickReadModel.Snapshot.pageAfter(List.of(), new StockPickCursor(MARCH_1, 5L), 10).isEmpty());
+	}
+
+	@Test
+	void dateRangeIncludesPicksOnBothEndpoints() {
+		StockPickReadModel.Snapshot snapshot = snapshot(PICKS);
+
+		assertEquals(List.of(8L, 7L, 5L, 4L, 2L), ids(snapshot.byDateRange(FEBRUARY_28, MARCH_1)));
+		assertEquals(List.of(9L, 8L, 7L, 5L), ids(snapshot.byDateRange(MARCH_1, MARCH_2)));
+		assertEquals(List.of(8L, 7L, 5L), ids(snapshot.byDateRange(MARCH_1, MARCH_1)));
+	}
+
+	@Test
+	void dateRangeExcludesPicksJustOutsideTheEndpoints() {
+		StockPickReadModel.Snapshot snapshot = snapshot(PICKS);
+
+		assertEquals(List.of(8L, 7L, 5L), ids(snapshot.byDateRange(FEBRUARY_28.plusNanos(1), MARCH_2.minusNanos(1))));
+		assertEquals(List.of(), ids(snapshot.byDateRange(FEBRUARY_28.plusHours(1), MARCH_1.minusHours(1))));
+	}
+
+	@Test
+	void dateRangeWithStartAfterEndIsEmpty() {
+		StockPickReadModel.Snapshot snapshot = snapshot(PICKS);
+
+		assertTrue(snapshot.byDateRange(MARCH_2, FEBRUARY_28).isEmpty());
+		assertTrue(snapshot.byDateRange(MARCH_1.plusNanos(1), MARCH_1).isEmpty());
+	}
+
+	@Test
+	void dateRangeOutsideTheDataIsEmptyAndOneCoveringItReturnsEverything() {
+		StockPickReadModel.Snapshot snapshot = snapshot(PICKS);
+
+		assertTrue(snapshot.byDateRange(LocalDateTime.of(2023, 1, 1, 0, 0), FEBRUARY_28.minusNanos(1)).isEmpty());
+		assertTrue(snapshot.byDateRange(MARCH_2.plusNanos(1), LocalDateTime.of(2025, 1, 1, 0, 0)).isEmpty());
+		assertEquals(ids(PICKS), ids(snapshot.byDateRange(LocalDateTime.of(2023, 1, 1, 0, 0), LocalDateTime.of(2025, 1, 1, 0, 0))));
+		assertTrue(snapshot(List.of()).byDateRange(FEBRUARY_28, MARCH_2).isEmpty());
+	}
+
+	private static StockPickReadModel.Snapshot snapshot(List<StockPickSummary> picks) {
+		return new StockPickReadModel.Snapshot(picks, 1, "test", Instant.EPOCH);
+	}
+
+	private static StockPickCursor cursorAt(StockPickSummary pick) {
+		return StockPickCursor.decode(new StockPickCursor(pick.getPickDate(), pick.getId()).encode());
+	}
+
+	private static List<Long> ids(List<StockPickSummary> picks) {
+		return picks.stream().map(StockPickSummary::getId).toList();
+	}
+
+	private static StockPickSummary pick(Long id, LocalDateTime pickDate) {
+		return new StockPickSummary(id, "SYM" + id, "Company " + id, PickType.BUY, new BigDecimal("10.00"),
+				null, null, null, pickDate, true);
+	}
+}